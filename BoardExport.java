@@ -0,0 +1,145 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>This {@code BoardExport} class writes a {@link MinesweeperBoard} as text, for diagnostics.</p>
+ * <p>Cells are read straight from {@link MinesweeperModel} and written through a small buffer, so the time taken grows linearly with the
+ * size of the board and the memory used does not grow at all. The formats are:</p>
+ * <ul>
+ * <li>{@link #TEXT}: the count of every cell followed by a tab, one row per line. This is {@link MinesweeperBoard#toString()}.</li>
+ * <li>{@link #CSV}: a header, then one line per cell of its row, column, count, and whether it is a bomb, revealed and flagged as 0 or 1.</li>
+ * <li>{@link #ASCII}: one character per cell, one row per line. A revealed cell is its count or {@code .} for 0, a flagged cell is
+ * {@code F}, a hidden bomb is {@code *} and any other hidden cell is {@code #}.</li>
+ * </ul>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class BoardExport {
+	/**
+	 * The format of {@link MinesweeperBoard#toString()}.
+	 */
+	public static final int TEXT = 0;
+	
+	/**
+	 * One line of comma separated values per cell.
+	 */
+	public static final int CSV = 1;
+	
+	/**
+	 * One character per cell.
+	 */
+	public static final int ASCII = 2;
+	
+	/**
+	 * The number of characters buffered before they are written.
+	 */
+	private static final int BUFFER = 1 << 13;
+	
+	/**
+	 * {@code BoardExport} only has static members.
+	 */
+	private BoardExport() {}
+	
+	/**
+	 * Write {@code board} to {@code out} in {@code format} as US-ASCII.<br>
+	 * {@code out} is flushed but not closed.
+	 * 
+	 * @param board		is the {@link MinesweeperBoard}.
+	 * @param format	is {@link #TEXT}, {@link #CSV} or {@link #ASCII}.
+	 * @param out		is the stream to write to.
+	 * 
+	 * @throws IOException				if the board cannot be written.
+	 * @throws IllegalArgumentException	if {@code format} is not a format.
+	 */
+	public static void write(MinesweeperBoard board, int format, OutputStream out) throws IOException, IllegalArgumentException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.US_ASCII), BUFFER);
+		write(board, format, writer);
+		writer.flush();
+	}
+	
+	/**
+	 * Write {@code board} to {@code out} in {@code format}.<br>
+	 * {@code out} is neither flushed nor closed.
+	 * 
+	 * @param board		is the {@link MinesweeperBoard}.
+	 * @param format	is {@link #TEXT}, {@link #CSV} or {@link #ASCII}.
+	 * @param out		is the {@link Writer} to write to.
+	 * 
+	 * @throws IOException				if the board cannot be written.
+	 * @throws IllegalArgumentException	if {@code format} is not a format.
+	 */
+	public static void write(MinesweeperBoard board, int format, Writer out) throws IOException, IllegalArgumentException {
+		if (format < TEXT || format > ASCII) throw new IllegalArgumentException("Illegal format: " + format);
+		MinesweeperModel model = board.getModel();
+		int rowMax = model.getRowMax(), colMax = model.getColMax(), pos = 0;
+		char[] buffer = new char[BUFFER];
+		
+		if (format == CSV) {
+			String header = "row,col,count,mine,revealed,flagged\n";
+			header.getChars(0, header.length(), buffer, 0);
+			pos = header.length();
+		}
+		
+		for (int i = 0, index = 0; i < rowMax; i++) {
+			for (int j = 0; j < colMax; j++, index++) {
+				if (pos > BUFFER - 0x40) {
+					out.write(buffer, 0, pos);
+					pos = 0;
+				}
+				
+				switch (format) {
+				case TEXT:
+					pos = put(buffer, pos, model.getCount(index));
+					buffer[pos++] = '\t';
+					break;
+				case CSV:
+					pos = put(buffer, pos, i);
+					buffer[pos++] = ',';
+					pos = put(buffer, pos, j);
+					buffer[pos++] = ',';
+					pos = put(buffer, pos, model.getCount(index));
+					buffer[pos++] = ',';
+					buffer[pos++] = model.isMine(index) ? '1' : '0';
+					buffer[pos++] = ',';
+					buffer[pos++] = model.isRevealed(index) ? '1' : '0';
+					buffer[pos++] = ',';
+					buffer[pos++] = model.isFlagged(index) ? '1' : '0';
+					buffer[pos++] = '\n';
+					break;
+				default:
+					if (model.isRevealed(index))		buffer[pos++] = model.getCount(index) == 0 ? '.' : (char) ('0' + model.getCount(index));
+					else if (model.isFlagged(index))	buffer[pos++] = 'F';
+					else if (model.isMine(index))		buffer[pos++] = '*';
+					else								buffer[pos++] = '#';
+					break;
+				}
+			} if (format != CSV) buffer[pos++] = '\n';
+		} out.write(buffer, 0, pos);
+	}
+	
+	/**
+	 * Put the decimal digits of {@code value} into {@code buffer}.
+	 * 
+	 * @param buffer	is where to put the digits.
+	 * @param pos		is where the first digit goes.
+	 * @param value		is a value that is not negative.
+	 * 
+	 * @return the position after the last digit.
+	 */
+	private static int put(char[] buffer, int pos, int value) {
+		if (value < 10) {
+			buffer[pos] = (char) ('0' + value);
+			return pos + 1;
+		}
+		
+		int end = pos + 1;
+		for (int rest = value; rest >= 10; rest /= 10) end++;
+		for (int i = end - 1; i >= pos; i--, value /= 10) buffer[i] = (char) ('0' + value % 10);
+		return end;
+	}
+}
\ No newline at end of file
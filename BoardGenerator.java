@@ -0,0 +1,193 @@
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>This {@code BoardGenerator} class generates many boards at once, for analysing {@link Minesweeper} without playing it.</p>
+ * <p>Boards are written one after another into a {@code byte[]}, one {@code byte} per cell in the format of
+ * {@link MinesweeperModel}: the bit {@link MinesweeperModel#MINE} and the number of surrounding bombs in
+ * {@link MinesweeperModel#COUNT}.<br>
+ * The boards are split between the threads of a {@link ForkJoinPool}. Every task has its own {@link SplittableRandom}, split from
+ * the seed in an order that does not depend on scheduling, so a seed always generates the same boards.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class BoardGenerator {
+	/**
+	 * This {@code Task} class generates a range of boards.
+	 * 
+	 * @version 17 October 2026
+	 * @author MrPineapple065
+	 */
+	private static class Task extends RecursiveAction {
+		/**
+		 * serialVersionUID
+		 */
+		private static final long serialVersionUID = 0x2F6C1D8B95A3E047L;
+		
+		/**
+		 * The number of cells a task generates before it stops splitting.
+		 */
+		private static final int THRESHOLD = 1 << 16;
+		
+		/**
+		 * The {@link BoardGenerator} this is part of.
+		 */
+		private final BoardGenerator generator;
+		
+		/**
+		 * The {@link SplittableRandom} of this only.
+		 */
+		private final SplittableRandom rand;
+		
+		/**
+		 * Where to write the boards.
+		 */
+		private final byte[] out;
+		
+		/**
+		 * The first board.
+		 */
+		private final int from;
+		
+		/**
+		 * One past the last board.
+		 */
+		private final int to;
+		
+		/**
+		 * Create a {@code Task} generating boards {@code from} to {@code to}.
+		 * 
+		 * @param generator	is the {@link BoardGenerator}.
+		 * @param rand		is the {@link SplittableRandom} of this only.
+		 * @param out		is where to write the boards.
+		 * @param from		is the first board.
+		 * @param to		is one past the last board.
+		 */
+		public Task(BoardGenerator generator, SplittableRandom rand, byte[] out, int from, int to) {
+			this.generator = generator;
+			this.rand = rand;
+			this.out = out;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected void compute() {
+			int size = this.generator.rowMax * this.generator.colMax;
+			if ((long) (this.to - this.from) * size > THRESHOLD && this.to - this.from > 1) {
+				int mid = (this.from + this.to) >>> 1;
+				Task left = new Task(this.generator, this.rand.split(), this.out, this.from, mid);
+				Task right = new Task(this.generator, this.rand, this.out, mid, this.to);
+				invokeAll(left, right);
+				return;
+			}
+			
+			MinesweeperModel model = new MinesweeperModel(this.generator.rowMax, this.generator.colMax);
+			for (int i = this.from; i < this.to; i++) {
+				model.clear();
+				model.placeMines(this.rand, this.generator.numBombs);
+				model.copyTo(this.out, i * size);
+			}
+		}
+	}
+	
+	/**
+	 * The maximum number of rows.
+	 */
+	private final int rowMax;
+	
+	/**
+	 * The maximum number of columns.
+	 */
+	private final int colMax;
+	
+	/**
+	 * The number of bombs on each board.
+	 */
+	private final int numBombs;
+	
+	/**
+	 * The {@link ForkJoinPool} generating the boards.
+	 */
+	private final ForkJoinPool pool;
+	
+	/**
+	 * Creates a {@code BoardGenerator} running on {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param rowMax	is the maximum number of rows.
+	 * @param colMax	is the maximum number of columns.
+	 * @param numBombs	is the number of bombs on each board.
+	 * 
+	 * @throws IllegalArgumentException if the size is illegal, or {@code numBombs} is greater than ({@code rowMax} * {@code colMax}) or less than 0.
+	 */
+	public BoardGenerator(int rowMax, int colMax, int numBombs) throws IllegalArgumentException {
+		this(rowMax, colMax, numBombs, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Creates a {@code BoardGenerator}.
+	 * 
+	 * @param rowMax	is the maximum number of rows.
+	 * @param colMax	is the maximum number of columns.
+	 * @param numBombs	is the number of bombs on each board.
+	 * @param pool		is the {@link ForkJoinPool} generating the boards.
+	 * 
+	 * @throws IllegalArgumentException if the size is illegal, or {@code numBombs} is greater than ({@code rowMax} * {@code colMax}) or less than 0.
+	 * @throws NullPointerException		if {@code pool} is {@code null}.
+	 */
+	public BoardGenerator(int rowMax, int colMax, int numBombs, ForkJoinPool pool) throws IllegalArgumentException, NullPointerException {
+		if (rowMax < 1 || colMax < 1 || (long) rowMax * colMax > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Illegal board size: " + rowMax + " x " + colMax);
+		if (numBombs < 0 || numBombs > rowMax * colMax)
+			throw new IllegalArgumentException("Illegal number of bombs: " + numBombs);
+		this.rowMax = rowMax;
+		this.colMax = colMax;
+		this.numBombs = numBombs;
+		this.pool = Objects.requireNonNull(pool, "BoardGenerator must have a ForkJoinPool");
+	}
+	
+	/**
+	 * Generate {@code count} boards from {@code seed}.
+	 * 
+	 * @param count	is the number of boards.
+	 * @param seed	is the seed of the boards.
+	 * 
+	 * @return the boards, one after another.
+	 * 
+	 * @throws IllegalArgumentException if {@code count} is negative or the boards do not fit in an array.
+	 */
+	public byte[] generate(int count, long seed) throws IllegalArgumentException {
+		if (count < 0 || (long) count * this.size() > Integer.MAX_VALUE - 8)
+			throw new IllegalArgumentException("Illegal number of boards: " + count);
+		byte[] out = new byte[count * this.size()];
+		this.generate(out, count, seed);
+		return out;
+	}
+	
+	/**
+	 * Generate {@code count} boards from {@code seed} into {@code out}.
+	 * 
+	 * @param out	is where to write the boards, starting at 0.
+	 * @param count	is the number of boards.
+	 * @param seed	is the seed of the boards.
+	 * 
+	 * @throws IllegalArgumentException if {@code count} is negative or the boards do not fit in {@code out}.
+	 */
+	public void generate(byte[] out, int count, long seed) throws IllegalArgumentException {
+		if (count < 0 || (long) count * this.size() > out.length)
+			throw new IllegalArgumentException("Illegal number of boards: " + count);
+		this.pool.invoke(new Task(this, new SplittableRandom(seed), out, 0, count));
+	}
+	
+	/**
+	 * Determine the number of bytes of one board.
+	 * 
+	 * @return {@code rowMax * colMax}
+	 */
+	public int size() {
+		return this.rowMax * this.colMax;
+	}
+}
\ No newline at end of file
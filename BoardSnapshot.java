@@ -0,0 +1,286 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * <p>This {@code BoardSnapshot} class saves a {@link MinesweeperBoard} to a file and restores it.</p>
+ * <p>A snapshot is a header followed by three packed planes, read and written through a {@link MappedByteBuffer}:</p>
+ * <ul>
+ * <li>Header: the magic number, the version, the rows, the columns, the bombs, the exploded cell, the state of the game and the elapsed nanoseconds.</li>
+ * <li>State plane: 2 bits per cell, four cells per byte from the low bits up. 0 is hidden, 1 is revealed and 2 is flagged.</li>
+ * <li>Bomb plane: 1 bit per cell, eight cells per byte from the low bit up.</li>
+ * <li>Count plane: 4 bits per cell, two cells per byte from the low bits up. The count of a bomb includes itself, as in {@link MinesweeperModel#count()}.</li>
+ * </ul>
+ * <p>Cells are copied through a small buffer straight to and from {@link MinesweeperModel}, so no object is created per cell
+ * and a board of a hundred million cells takes about as long as copying its file. Every count is stored, and checked against the bomb plane on loading.</p>
+ * <p>A snapshot is not a move of {@link MoveJournal}, so no snapshot is loaded into a board being recorded.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class BoardSnapshot {
+	/**
+	 * The first 4 bytes of every snapshot, {@code "MSWP"}.
+	 */
+	public static final int MAGIC = 0x4D535750;
+	
+	/**
+	 * The version of the format written.
+	 */
+	public static final int VERSION = 2;
+	
+	/**
+	 * The number of bytes of the header.
+	 */
+	public static final int HEADER = 36;
+	
+	/**
+	 * The state of a hidden cell.
+	 */
+	private static final int HIDDEN = 0;
+	
+	/**
+	 * The state of a revealed cell.
+	 */
+	private static final int REVEALED = 1;
+	
+	/**
+	 * The state of a flagged cell.
+	 */
+	private static final int FLAGGED = 2;
+	
+	/**
+	 * The bit of the state of the game set when it is over.
+	 */
+	private static final int GAME_OVER = 0x1;
+	
+	/**
+	 * The number of cells copied through the buffer at once. It is a multiple of 8.
+	 */
+	private static final int CHUNK = 1 << 16;
+	
+	/**
+	 * The state of every value of a cell of {@link MinesweeperModel}.
+	 */
+	private static final byte[] stateOf = new byte[0x100];
+	
+	/**
+	 * The count of every value of a cell of {@link MinesweeperModel}.
+	 */
+	private static final byte[] countOf = new byte[0x100];
+	
+	/**
+	 * The cell of {@link MinesweeperModel} of every bomb bit, state and count, indexed by bomb * 64 + state * 16 + count.
+	 */
+	private static final byte[] cellOf = new byte[0x80];
+	
+	/**
+	 * The bits other than the count of four cells of {@link MinesweeperModel}, one per byte from the low byte up,
+	 * indexed by their bombs * 256 + their states as packed in the planes.
+	 */
+	private static final int[] bitsOf = new int[0x1000];
+	
+	static {
+		for (int cell = 0; cell < 0x100; cell++) {
+			stateOf[cell] = (byte) ((cell & MinesweeperModel.REVEALED) != 0 ? REVEALED : (cell & MinesweeperModel.FLAGGED) != 0 ? FLAGGED : HIDDEN);
+			countOf[cell] = (byte) (cell & MinesweeperModel.COUNT);
+		}
+		for (int key = 0; key < 0x80; key++) {
+			int cell = key & MinesweeperModel.COUNT, state = key >> 4 & 0x3;
+			if ((key & 0x40) != 0)		cell |= MinesweeperModel.MINE;
+			if (state == REVEALED)		cell |= MinesweeperModel.REVEALED;
+			else if (state == FLAGGED)	cell |= MinesweeperModel.FLAGGED;
+			cellOf[key] = (byte) cell;
+		}
+		for (int key = 0; key < 0x1000; key++) {
+			for (int k = 0; k < 4; k++) bitsOf[key] |= (cellOf[(key >> 8 + k & 0x1) << 6 | (key >> 2 * k & 0x3) << 4] & 0xFF) << 8 * k;
+		}
+	}
+	
+	/**
+	 * {@code BoardSnapshot} only has static members.
+	 */
+	private BoardSnapshot() {}
+	
+	/**
+	 * Determine the number of bytes of a snapshot of {@code size} cells.
+	 * 
+	 * @param size is the number of cells.
+	 * 
+	 * @return the size of the file.
+	 */
+	private static long length(int size) {
+		return HEADER + (size + 3L) / 4 + (size + 7L) / 8 + (size + 1L) / 2;
+	}
+	
+	/**
+	 * Create a headless {@link MinesweeperBoard} from the snapshot at {@code path}.
+	 * 
+	 * @param path is the file.
+	 * 
+	 * @return the board.
+	 * 
+	 * @throws IOException if the file cannot be read or is not a snapshot.
+	 */
+	public static MinesweeperBoard load(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = map(channel, FileChannel.MapMode.READ_ONLY, HEADER);
+			MinesweeperBoard board;
+			try {
+				board = new MinesweeperBoard(buffer.getInt(8), buffer.getInt(12), buffer.getInt(16));
+			} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+				throw new IOException("Illegal board in snapshot: " + e.getMessage(), e);
+			} read(board, channel);
+			return board;
+		}
+	}
+	
+	/**
+	 * Restore {@code board} from the snapshot at {@code path}.<br>
+	 * The snapshot must have the same rows, columns and bombs as {@code board}.
+	 * 
+	 * @param board	is the {@link MinesweeperBoard} to restore.
+	 * @param path	is the file.
+	 * 
+	 * @throws IOException if the file cannot be read, is not a snapshot, is of another size of board, or {@code board} is recorded by a {@link MoveJournal}.
+	 * If the cells of the snapshot are illegal, {@code board} is left as a new game.
+	 */
+	public static void load(MinesweeperBoard board, Path path) throws IOException {
+		if (board.getJournal() != null) throw new IOException("A snapshot cannot be loaded while the game is recorded");
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			read(board, channel);
+		}
+	}
+	
+	/**
+	 * Map {@code length} bytes of {@code channel} from the start in little endian order.
+	 * 
+	 * @param channel	is the file.
+	 * @param mode		is how the file is mapped.
+	 * @param length	is the number of bytes.
+	 * 
+	 * @return the mapped bytes.
+	 * 
+	 * @throws IOException if the file is too short or cannot be mapped.
+	 */
+	private static MappedByteBuffer map(FileChannel channel, FileChannel.MapMode mode, long length) throws IOException {
+		if (mode == FileChannel.MapMode.READ_ONLY && channel.size() < length) throw new IOException("Snapshot is truncated");
+		MappedByteBuffer buffer = channel.map(mode, 0, length);
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		return buffer;
+	}
+	
+	/**
+	 * Read the snapshot in {@code channel} into {@code board}.
+	 * 
+	 * @param board		is the {@link MinesweeperBoard} to restore.
+	 * @param channel	is the file.
+	 * 
+	 * @throws IOException if the file cannot be read, is not a snapshot, is of another size of board, or its cells are illegal,
+	 * in which case {@code board} is left as a new game.
+	 */
+	private static void read(MinesweeperBoard board, FileChannel channel) throws IOException {
+		MappedByteBuffer buffer = map(channel, FileChannel.MapMode.READ_ONLY, HEADER);
+		if (buffer.getInt(0) != MAGIC)		throw new IOException("Not a snapshot");
+		if (buffer.getInt(4) != VERSION)	throw new IOException("Illegal snapshot version: " + buffer.getInt(4));
+		if (buffer.getInt(8) != board.getRowMax() || buffer.getInt(12) != board.getColMax() || buffer.getInt(16) != board.getNumBombs())
+			throw new IOException("Snapshot is of a " + buffer.getInt(8) + " x " + buffer.getInt(12) + " board with " + buffer.getInt(16) + " bombs");
+		int exploded = buffer.getInt(20), state = buffer.getInt(24);
+		long elapsed = buffer.getLong(28);
+		
+		MinesweeperModel model = board.getModel();
+		byte[] cells = model.getCells(), chunk = new byte[CHUNK / 4 + CHUNK / 8 + CHUNK / 2];
+		int size = cells.length, states = (size + 3) / 4, bombs = (size + 7) / 8;
+		if (exploded < -1 || exploded >= size) throw new IOException("Illegal exploded cell in snapshot: " + exploded);
+		buffer = map(channel, FileChannel.MapMode.READ_ONLY, length(size));
+		
+		for (int from = 0; from < size; from += CHUNK) {
+			int to = Math.min(from + CHUNK, size), stateBytes = (to - from + 3) / 4, bombBytes = (to - from + 7) / 8, countBytes = (to - from + 1) / 2;
+			buffer.get(HEADER + from / 4, chunk, 0, stateBytes);
+			buffer.get(HEADER + states + from / 8, chunk, stateBytes, bombBytes);
+			buffer.get(HEADER + states + bombs + from / 2, chunk, stateBytes + bombBytes, countBytes);
+			
+			int end = from + ((to - from) & ~3), counts = stateBytes + bombBytes;
+			for (int i = from, b = 0; i < end; i += 4, b++) {
+				int bits = bitsOf[(chunk[stateBytes + (b >> 1)] >> ((b & 1) << 2) & 0xF) << 8 | (chunk[b] & 0xFF)];
+				int low = chunk[counts + 2 * b], high = chunk[counts + 2 * b + 1];
+				cells[i]		= (byte) (bits			| (low & 0xF));
+				cells[i + 1]	= (byte) (bits >> 8		| (low >> 4 & 0xF));
+				cells[i + 2]	= (byte) (bits >> 16	| (high & 0xF));
+				cells[i + 3]	= (byte) (bits >> 24	| (high >> 4 & 0xF));
+			} for (int i = end; i < to; i++) {
+				int j = i - from;
+				int s = chunk[j >> 2] >> ((j & 3) << 1) & 0x3, m = chunk[stateBytes + (j >> 3)] >> (j & 7) & 0x1, c = chunk[counts + (j >> 1)] >> ((j & 1) << 2) & 0xF;
+				cells[i] = cellOf[m << 6 | s << 4 | c];
+			}
+		}
+		
+		model.restore();
+		if (model.getNumMines() != board.getNumBombs() || !model.isCounted()) {
+			int mines = model.getNumMines();
+			Arrays.fill(cells, (byte) 0);
+			model.restore();
+			board.reset();
+			throw new IOException(mines != board.getNumBombs() ? "Snapshot has " + mines + " bombs instead of " + board.getNumBombs() : "Snapshot has a count that differs from its bombs");
+		} board.restore((state & GAME_OVER) != 0, exploded, elapsed);
+	}
+	
+	/**
+	 * Save {@code board} to a snapshot at {@code path}, replacing any file there.
+	 * 
+	 * @param board	is the {@link MinesweeperBoard} to save.
+	 * @param path	is the file.
+	 * 
+	 * @throws IOException if the file cannot be written.
+	 */
+	public static void save(MinesweeperBoard board, Path path) throws IOException {
+		MinesweeperModel model = board.getModel();
+		byte[] cells = model.getCells(), chunk = new byte[CHUNK / 4 + CHUNK / 8 + CHUNK / 2];
+		int size = cells.length, states = (size + 3) / 4, bombs = (size + 7) / 8;
+		
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			MappedByteBuffer buffer = map(channel, FileChannel.MapMode.READ_WRITE, length(size));
+			buffer.putInt(0, MAGIC);
+			buffer.putInt(4, VERSION);
+			buffer.putInt(8, board.getRowMax());
+			buffer.putInt(12, board.getColMax());
+			buffer.putInt(16, board.getNumBombs());
+			buffer.putInt(20, board.getExploded());
+			buffer.putInt(24, board.getGameOver() ? GAME_OVER : 0);
+			buffer.putLong(28, board.getClock().getElapsedNanos());
+			
+			for (int from = 0; from < size; from += CHUNK) {
+				int to = Math.min(from + CHUNK, size), stateBytes = (to - from + 3) / 4, bombBytes = (to - from + 7) / 8, countBytes = (to - from + 1) / 2;
+				Arrays.fill(chunk, 0, stateBytes + bombBytes + countBytes, (byte) 0);
+				
+				int end = from + ((to - from) & ~7), counts = stateBytes + bombBytes;
+				for (int i = from, b = 0; i < end; i += 8, b++) {
+					int state = 0, bomb = 0, count = 0;
+					for (int k = 0; k < 8; k++) {
+						int cell = cells[i + k] & 0xFF;
+						state |= stateOf[cell] << 2 * k;
+						bomb |= (cell & MinesweeperModel.MINE) >> 4 << k;
+						count |= countOf[cell] << 4 * k;
+					}
+					chunk[2 * b] = (byte) state; chunk[2 * b + 1] = (byte) (state >> 8);
+					chunk[stateBytes + b] = (byte) bomb;
+					chunk[counts + 4 * b] = (byte) count; chunk[counts + 4 * b + 1] = (byte) (count >> 8);
+					chunk[counts + 4 * b + 2] = (byte) (count >> 16); chunk[counts + 4 * b + 3] = (byte) (count >> 24);
+				} for (int i = end; i < to; i++) {
+					int cell = cells[i] & 0xFF, j = i - from;
+					chunk[j >> 2] |= stateOf[cell] << ((j & 3) << 1);
+					chunk[stateBytes + (j >> 3)] |= (cell & MinesweeperModel.MINE) >> 4 << (j & 7);
+					chunk[counts + (j >> 1)] |= countOf[cell] << ((j & 1) << 2);
+				}
+				
+				buffer.put(HEADER + from / 4, chunk, 0, stateBytes);
+				buffer.put(HEADER + states + from / 8, chunk, stateBytes, bombBytes);
+				buffer.put(HEADER + states + bombs + from / 2, chunk, counts, countBytes);
+			}
+		}
+	}
+}
\ No newline at end of file
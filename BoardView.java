@@ -0,0 +1,450 @@
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+import java.awt.event.MouseWheelEvent;
+import java.awt.event.MouseWheelListener;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import javax.swing.BorderFactory;
+import javax.swing.JComponent;
+import javax.swing.JFileChooser;
+import javax.swing.JOptionPane;
+import javax.swing.JScrollPane;
+import javax.swing.JViewport;
+import javax.swing.Scrollable;
+import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
+import javax.swing.border.Border;
+
+/**
+ * <p>This {@code BoardView} class paints every cell of a {@link MinesweeperBoard} as one component.</p>
+ * <p>Cells are painted from the copy of every cell the panel keeps of what its {@link GameEngine} published, and only the cells inside the clip are painted.
+ * A mouse press is mapped to a cell with row and column arithmetic, and the move is handed to the {@link GameEngine} of the panel,
+ * so the event dispatch thread never waits for it.</p>
+ * <p>The view is {@link Scrollable}, so inside a {@link JScrollPane} only the cells in the viewport are ever painted, and scrolling copies
+ * what was already painted and paints only the cells scrolled in. Holding control while turning the mouse wheel zooms around the
+ * pointer through {@link #zooms}; the sprites of each size are drawn once by {@link SpriteCache}.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class BoardView extends JComponent implements MouseListener, MouseWheelListener, KeyListener, Scrollable {
+	/**
+	 * serialVersionUID
+	 */
+	private static final long serialVersionUID = 0x5B1E6A0F3C2D4E71L;
+	
+	/**
+	 * The width and height of a cell in pixels when not zoomed.
+	 */
+	public static final int SIZE = 50;
+	
+	/**
+	 * The width and height of the image on a cell in pixels when not zoomed.
+	 */
+	public static final int ICON = 32;
+	
+	/**
+	 * The width and height of a cell at every zoom, about a quarter apart.
+	 */
+	private static final int[] zooms = {10, 13, 16, 20, 25, 32, 40, 50, 63, 80, 100};
+	
+	/**
+	 * The most pixels wide and high the viewport is made to start with.
+	 */
+	private static final Dimension maxViewport = new Dimension(30 * SIZE, 16 * SIZE);
+	
+	/**
+	 * The smallest cell the probability is written on.
+	 */
+	private static final int LABEL = 40;
+	
+	/**
+	 * A reference holding a {@link Color} that every cell will be.
+	 */
+	private static final Color color = new Color(0xBDBDBD);
+	
+	/**
+	 * The {@link Font} of the probability that a cell is a bomb.
+	 */
+	private static final Font probabilityFont = new Font("Arial", Font.PLAIN, 12);
+	
+	/**
+	 * The tint of a cell that cannot be a bomb.
+	 */
+	private static final Color safe = new Color(0x00, 0xC0, 0x00, 0x60);
+	
+	/**
+	 * The tint of a cell that may be a bomb, by its probability out of 0xA0, so no {@link Color} is created while painting.
+	 */
+	private static final Color[] tints = new Color[0xA1];
+	
+	static {
+		for (int i = 0; i < tints.length; i++) tints[i] = new Color(0xFF, 0x00, 0x00, i);
+	}
+	
+	/**
+	 * The {@link Border} of a cell that is not revealed.
+	 */
+	private static final Border raised = BorderFactory.createRaisedBevelBorder();
+	
+	/**
+	 * The {@link Border} of a cell that is revealed or pressed.
+	 */
+	private static final Border lowered = BorderFactory.createLoweredBevelBorder();
+	
+	/**
+	 * The {@link MinesweeperPanel} holding this.
+	 */
+	private final MinesweeperPanel panel;
+	
+	/**
+	 * The index of the cell being pressed, or -1.
+	 */
+	private int pressed = -1;
+	
+	/**
+	 * The index of the zoom in {@link #zooms}.
+	 */
+	private int zoom = 7;
+	
+	/**
+	 * The width and height of a cell in pixels.
+	 */
+	private int size = zooms[this.zoom];
+	
+	/**
+	 * The width and height of the image on a cell in pixels.
+	 */
+	private int icon = ICON;
+	
+	/**
+	 * Creates a {@code BoardView} on {@code panel}.
+	 * 
+	 * @param panel is the {@link MinesweeperPanel} holding this.
+	 */
+	public BoardView(MinesweeperPanel panel) {
+		super();
+		this.panel = Objects.requireNonNull(panel, "BoardView must be on MinesweeperPanel");
+		
+		this.setBackground(color);
+		this.setOpaque(true);
+		
+		//Add Interactivity
+		this.addKeyListener(this); this.addMouseListener(this); this.addMouseWheelListener(this);
+		this.setFocusable(true);
+	}
+	
+	/**
+	 * Determine the cell under ({@code x}, {@code y}).
+	 * 
+	 * @param x is the x coordinate in pixels.
+	 * @param y is the y coordinate in pixels.
+	 * 
+	 * @return the index of the cell, or -1 if there is none.
+	 */
+	public int cellAt(int x, int y) {
+		MinesweeperBoard board = this.panel.getBoard();
+		if (x < 0 || y < 0) return -1;
+		int row = y / this.size, col = x / this.size;
+		if (row >= board.getRowMax() || col >= board.getColMax()) return -1;
+		return row * board.getColMax() + col;
+	}
+	
+	@Override
+	public Dimension getPreferredScrollableViewportSize() {
+		Dimension preferred = this.getPreferredSize();
+		return new Dimension(Math.min(preferred.width, maxViewport.width), Math.min(preferred.height, maxViewport.height));
+	}
+	
+	@Override
+	public Dimension getPreferredSize() {
+		MinesweeperBoard board = this.panel.getBoard();
+		if (board == null) return super.getPreferredSize();
+		return new Dimension(pixels(board.getColMax(), this.size), pixels(board.getRowMax(), this.size));
+	}
+	
+	@Override
+	public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+		int extent = orientation == SwingConstants.HORIZONTAL ? visibleRect.width : visibleRect.height;
+		return Math.max(extent - this.size, this.size);
+	}
+	
+	@Override
+	public boolean getScrollableTracksViewportHeight() {
+		return this.getParent() instanceof JViewport && this.getParent().getHeight() > this.getPreferredSize().height;
+	}
+	
+	@Override
+	public boolean getScrollableTracksViewportWidth() {
+		return this.getParent() instanceof JViewport && this.getParent().getWidth() > this.getPreferredSize().width;
+	}
+	
+	@Override
+	public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+		return this.size;
+	}
+	
+	@Override
+	public void keyPressed(KeyEvent e) {return;}
+	
+	@Override
+	public void keyReleased(KeyEvent e) {return;}
+	
+	@Override
+	public void keyTyped(KeyEvent e) {
+		switch (e.getKeyChar()) {
+		case KeyEvent.VK_ESCAPE:
+			this.panel.m.actionPerformed(null);
+			return;
+		case 'r':
+			switch (JOptionPane.showConfirmDialog(null, "Are you sure you want to reset?", "", JOptionPane.YES_NO_OPTION, JOptionPane.PLAIN_MESSAGE, null)) {
+			case JOptionPane.YES_OPTION:
+				this.panel.m.reset();
+				this.panel.getEngine().reset();
+			default:
+				return;
+			}
+		case 's':
+			JFileChooser save = new JFileChooser();
+			if (save.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+			Path savePath = save.getSelectedFile().toPath();
+			this.panel.getEngine().submit(board -> {
+				try {
+					BoardSnapshot.save(board, savePath);
+				} catch (IOException ioe) {
+					SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(null, ioe.getMessage(), "Could not save", JOptionPane.ERROR_MESSAGE, null));
+				}
+			}); return;
+		case 'l':
+			JFileChooser load = new JFileChooser();
+			if (load.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+			Path loadPath = load.getSelectedFile().toPath();
+			this.panel.getEngine().submit(board -> {
+				try {
+					BoardSnapshot.load(board, loadPath);
+				} catch (IOException ioe) {
+					SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(null, ioe.getMessage(), "Could not load", JOptionPane.ERROR_MESSAGE, null));
+				}
+			}); return;
+		case 'n':
+			boolean isNoGuess = !this.panel.isNoGuess();
+			this.panel.getEngine().submit(board -> board.setNoGuess(isNoGuess));
+			JOptionPane.showMessageDialog(null, "No guessing is " + (isNoGuess ? "on" : "off") + " from the next game", "", JOptionPane.PLAIN_MESSAGE, null);
+			return;
+		case 'p':
+			this.panel.toggleProbabilities();
+			return;
+		case 'q':
+			switch (JOptionPane.showConfirmDialog(null, "Are you sure you want to quit?", "", JOptionPane.YES_NO_OPTION, JOptionPane.PLAIN_MESSAGE, null)) {
+			case JOptionPane.YES_OPTION:
+				System.exit(0);
+			default:
+				return;
+			}
+		}
+	}
+	
+	@Override
+	public void mouseClicked(MouseEvent e)	{return;}
+	
+	@Override
+	public void mouseEntered(MouseEvent e)	{return;}
+	
+	@Override
+	public void mouseExited(MouseEvent e)	{return;}
+	
+	@Override
+	public void mousePressed(MouseEvent e) {
+		this.requestFocusInWindow();
+		if (this.panel.getGameOver()) return;
+		this.pressed = this.cellAt(e.getX(), e.getY());
+		if (this.pressed < 0) return;
+		this.repaintCell(this.pressed);
+		this.panel.m.click();
+	}
+	
+	@Override
+	public void mouseWheelMoved(MouseWheelEvent e) {
+		if (e.isControlDown()) {
+			this.zoom(e.getWheelRotation() < 0 ? 1 : -1, e.getPoint());
+			return;
+		}
+		
+		Component scrollPane = SwingUtilities.getAncestorOfClass(JScrollPane.class, this);
+		if (scrollPane != null) scrollPane.dispatchEvent(SwingUtilities.convertMouseEvent(this, e, scrollPane));
+	}
+	
+	@Override
+	public void mouseReleased(MouseEvent e) {
+		int cell = this.pressed;
+		if (cell < 0) return;
+		this.pressed = -1;
+		this.repaintCell(cell);
+		
+		MinesweeperBoard board = this.panel.getBoard();
+		if (this.panel.getGameOver()) return;
+		this.panel.m.reset();
+		if (this.cellAt(e.getX(), e.getY()) != cell) return;
+		
+		GameEngine engine = this.panel.getEngine();
+		boolean isBoth = (e.getModifiersEx() & (MouseEvent.BUTTON1_DOWN_MASK | MouseEvent.BUTTON3_DOWN_MASK)) != 0;
+		switch (e.getButton()) {
+		case MouseEvent.BUTTON1:
+			if (isBoth)	engine.chord(cell / board.getColMax(), cell % board.getColMax());
+			else		engine.reveal(cell / board.getColMax(), cell % board.getColMax());
+			return;
+		case MouseEvent.BUTTON2:
+			engine.chord(cell / board.getColMax(), cell % board.getColMax());
+			return;
+		case MouseEvent.BUTTON3:
+			if (isBoth)	engine.chord(cell / board.getColMax(), cell % board.getColMax());
+			else		engine.flag(cell / board.getColMax(), cell % board.getColMax());
+			return;
+		default:
+			return;
+		}
+	}
+	
+	/**
+	 * Paint the cell {@code index}.
+	 * 
+	 * @param g			is the {@link Graphics} to paint with.
+	 * @param cells		is the value of every cell, see {@link MinesweeperPanel#getCells()}.
+	 * @param index		is the cell.
+	 * @param x			is the x coordinate of the cell in pixels.
+	 * @param y			is the y coordinate of the cell in pixels.
+	 * @param p			is the probability that each cell is a bomb, or {@code null} if it is not shown.
+	 */
+	private void paintCell(Graphics g, byte[] cells, int index, int x, int y, double[] p) {
+		int cell = cells[index], exploded = this.panel.getExploded();
+		boolean isRevealed = (cell & MinesweeperModel.REVEALED) != 0, isFlagged = (cell & MinesweeperModel.FLAGGED) != 0, isLost = exploded >= 0;
+		
+		int size = this.size, icon = this.icon;
+		g.setColor(index == exploded ? Color.RED : color);
+		g.fillRect(x, y, size, size);
+		(isRevealed || index == this.pressed ? lowered : raised).paintBorder(this, g, x, y, size, size);
+		
+		int sprite = 0;
+		if (isRevealed)												sprite = cell & MinesweeperModel.COUNT;
+		else if (isLost && (cell & MinesweeperModel.MINE) != 0)		sprite = SpriteCache.BOMB;
+		else if (isLost && isFlagged)								sprite = SpriteCache.INCORRECT_FLAG;
+		else if (isFlagged)											sprite = SpriteCache.FLAG;
+		if (sprite != 0) g.drawImage(SpriteCache.get(sprite, icon), x + (size - icon) / 2, y + (size - icon) / 2, null);
+		
+		if (p == null || isRevealed || isFlagged || this.panel.getGameOver() || Double.isNaN(p[index])) return;
+		g.setColor(p[index] == 0 ? safe : tints[(int) (p[index] * (tints.length - 1))]);
+		g.fillRect(x + 2, y + 2, size - 4, size - 4);
+		if (size < LABEL) return;
+		g.setColor(Color.BLACK);
+		g.setFont(probabilityFont);
+		g.drawString(Math.round(p[index] * 100) + "%", x + 5, y + size - 6);
+	}
+	
+	@Override
+	protected void paintComponent(Graphics g) {
+		MinesweeperBoard board = this.panel.getBoard();
+		byte[] cells = this.panel.getCells();
+		if (board == null || cells == null) return;
+		
+		Rectangle clip = g.getClipBounds();
+		if (clip == null) clip = new Rectangle(0, 0, this.getWidth(), this.getHeight());
+		
+		int size = this.size, colMax = board.getColMax();
+		if ((long) clip.x + clip.width > (long) colMax * size || (long) clip.y + clip.height > (long) board.getRowMax() * size) {
+			g.setColor(this.getBackground());
+			g.fillRect(clip.x, clip.y, clip.width, clip.height);
+		}
+		
+		double[] p = this.panel.getProbabilities();
+		int rowStart = Math.max(clip.y / size, 0), rowEnd = Math.min((clip.y + clip.height - 1) / size, board.getRowMax() - 1);
+		int colStart = Math.max(clip.x / size, 0), colEnd = Math.min((clip.x + clip.width - 1) / size, colMax - 1);
+		
+		for (int i = rowStart; i <= rowEnd; i++) {
+			for (int j = colStart; j <= colEnd; j++) {
+				this.paintCell(g, cells, i * colMax + j, j * size, i * size, p);
+			}
+		}
+	}
+	
+	/**
+	 * Repaint the cell {@code index}.
+	 * 
+	 * @param index is the cell.
+	 */
+	public void repaintCell(int index) {
+		int colMax = this.panel.getBoard().getColMax();
+		this.repaint(pixels(index % colMax, this.size), pixels(index / colMax, this.size), this.size, this.size);
+	}
+	
+	/**
+	 * Repaint the cells revealed {@code cells[from]} to {@code cells[to - 1]} as one dirty rectangle.
+	 * 
+	 * @param cells	is the cells revealed, see {@link MinesweeperModel#getRevealed(int)}.
+	 * @param from	is the first cell.
+	 * @param to	is one past the last cell.
+	 */
+	public void repaintRevealed(int[] cells, int from, int to) {
+		if (from >= to) return;
+		int colMax = this.panel.getBoard().getColMax();
+		int rowStart = Integer.MAX_VALUE, rowEnd = -1, colStart = Integer.MAX_VALUE, colEnd = -1;
+		
+		for (int i = from; i < to; i++) {
+			int index = cells[i], row = index / colMax, col = index % colMax;
+			rowStart = Math.min(rowStart, row); rowEnd = Math.max(rowEnd, row);
+			colStart = Math.min(colStart, col); colEnd = Math.max(colEnd, col);
+		}
+		
+		this.repaint(pixels(colStart, this.size), pixels(rowStart, this.size), pixels(colEnd - colStart + 1, this.size), pixels(rowEnd - rowStart + 1, this.size));
+	}
+	
+	/**
+	 * Determine the number of pixels {@code cells} cells of {@code size} pixels take, which is at most {@link Integer#MAX_VALUE}.<br>
+	 * A board may have more columns or rows than fit in that many pixels, and those past it are never shown.
+	 * 
+	 * @param cells	is the number of cells.
+	 * @param size	is the size of a cell in pixels.
+	 * 
+	 * @return the number of pixels.
+	 */
+	private static int pixels(int cells, int size) {
+		return (int) Math.min((long) cells * size, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Zoom in or out by {@code step} sizes of {@link #zooms}, keeping the point of the board under {@code anchor} where it is in the viewport.
+	 * 
+	 * @param step		is the number of sizes to zoom in by, or out by if it is negative.
+	 * @param anchor	is the point that stays still, in the coordinates of this.
+	 */
+	public void zoom(int step, Point anchor) {
+		int next = Math.max(0, Math.min(this.zoom + step, zooms.length - 1));
+		if (next == this.zoom) return;
+		
+		JViewport viewport = (JViewport) SwingUtilities.getAncestorOfClass(JViewport.class, this);
+		Point position = viewport == null ? new Point() : viewport.getViewPosition();
+		double scale = (double) zooms[next] / this.size;
+		
+		this.zoom = next;
+		this.size = zooms[next];
+		this.icon = Math.max(this.size * ICON / SIZE, 1);
+		this.revalidate();
+		this.repaint();
+		if (viewport == null) return;
+		
+		viewport.getParent().validate();
+		Dimension view = viewport.getViewSize(), extent = viewport.getExtentSize();
+		int x = (int) Math.round(anchor.x * scale) - (anchor.x - position.x), y = (int) Math.round(anchor.y * scale) - (anchor.y - position.y);
+		viewport.setViewPosition(new Point(Math.max(0, Math.min(x, view.width - extent.width)), Math.max(0, Math.min(y, view.height - extent.height))));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,498 @@
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * <p>This {@code EngineMetrics} class measures how long the operations of {@link MinesweeperBoard} and {@link MinesweeperModel} take,
+ * and how many cells each touches.</p>
+ * <p>An operation is timed by calling {@link #start()} before it and {@link #stop(int, long, int)} after it. While metrics are off,
+ * {@link #start()} only reads one volatile boolean and returns 0, which {@link #stop(int, long, int)} ignores, so they can stay in
+ * the engine. While they are on, every operation adds to {@link LongAdder} counters and to a histogram of its time, and emits an
+ * {@link OperationEvent} to Java Flight Recorder if a recording has it enabled.</p>
+ * <p>The histogram keeps {@value #SUB_BUCKETS} buckets per power of two like HdrHistogram, so every percentile is within an eighth of
+ * the true time, from 1 nanosecond to the longest time there is in a fixed {@value #BUCKETS} counters.
+ * {@link #register()} publishes the switch and every operation as MXBeans under {@code Minesweeper:type=EngineMetrics}.
+ * Metrics start on if the system property {@code minesweeper.metrics} is {@code true}.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class EngineMetrics {
+	/**
+	 * The operation of revealing a cell, see {@link MinesweeperBoard#reveal(int, int)}.
+	 */
+	public static final int REVEAL = 0;
+	
+	/**
+	 * The operation of chording a cell, see {@link MinesweeperBoard#chord(int, int)}.
+	 */
+	public static final int CHORD = 1;
+	
+	/**
+	 * The operation of starting a new game, see {@link MinesweeperBoard#reset(long)}.
+	 */
+	public static final int RESET = 2;
+	
+	/**
+	 * The operation of counting the bombs around every cell, see {@link MinesweeperModel#count()}.
+	 */
+	public static final int COUNT = 3;
+	
+	/**
+	 * The operation of showing every bomb at the end of a lost game, see {@link GameEngine.Batch#repaint(BoardView)}.
+	 */
+	public static final int REVEAL_BOMB = 4;
+	
+	/**
+	 * The number of buckets of every power of two.
+	 */
+	private static final int SUB_BUCKETS = 8;
+	
+	/**
+	 * The log base 2 of {@link #SUB_BUCKETS}.
+	 */
+	private static final int SUB_BITS = 3;
+	
+	/**
+	 * The number of buckets of every histogram.
+	 */
+	private static final int BUCKETS = (Long.SIZE - SUB_BITS + 1) * SUB_BUCKETS;
+	
+	/**
+	 * The name of every operation.
+	 */
+	private static final String[] names = {"reveal", "chord", "reset", "count", "revealBomb"};
+	
+	/**
+	 * The measurements of every operation.
+	 */
+	private static final Operation[] operations = new Operation[names.length];
+	
+	/**
+	 * A boolean determining if operations are measured.
+	 */
+	private static volatile boolean isEnabled = Boolean.getBoolean("minesweeper.metrics");
+	
+	/**
+	 * A boolean for each thread determining if its operations are left out, see {@link #setMuted(boolean)}.
+	 */
+	private static final ThreadLocal<Boolean> isMuted = ThreadLocal.withInitial(() -> Boolean.FALSE);
+	
+	/**
+	 * The {@link EventType} of {@link OperationEvent}, checked before an event is created.
+	 */
+	private static final EventType eventType = EventType.getEventType(OperationEvent.class);
+	
+	/**
+	 * A boolean determining if the MXBeans have been registered.
+	 */
+	private static boolean isRegistered;
+	
+	static {
+		for (int i = 0; i < operations.length; i++) operations[i] = new Operation(names[i]);
+	}
+	
+	/**
+	 * <p>This {@code ControlMXBean} interface turns the metrics on and off over JMX.</p>
+	 */
+	public interface ControlMXBean {
+		/**
+		 * Determine if operations are measured.
+		 * 
+		 * @return {@code true} if they are.
+		 */
+		boolean isEnabled();
+		
+		/**
+		 * Set whether operations are measured.
+		 * 
+		 * @param isEnabled is the new value.
+		 */
+		void setEnabled(boolean isEnabled);
+		
+		/**
+		 * Forget every measurement.
+		 */
+		void reset();
+	}
+	
+	/**
+	 * <p>This {@code OperationMXBean} interface is the measurements of one operation over JMX.</p>
+	 */
+	public interface OperationMXBean {
+		/**
+		 * Determine the name of the operation.
+		 * 
+		 * @return the name.
+		 */
+		String getName();
+		
+		/**
+		 * Determine the number of times the operation was measured.
+		 * 
+		 * @return the count.
+		 */
+		long getCount();
+		
+		/**
+		 * Determine the number of cells touched by every measured operation.
+		 * 
+		 * @return the number of cells.
+		 */
+		long getCells();
+		
+		/**
+		 * Determine the mean time of the operation.
+		 * 
+		 * @return the mean in nanoseconds, or 0 if it was never measured.
+		 */
+		double getMeanNanos();
+		
+		/**
+		 * Determine the longest time of the operation.
+		 * 
+		 * @return the maximum in nanoseconds.
+		 */
+		long getMaxNanos();
+		
+		/**
+		 * Determine the median time of the operation.
+		 * 
+		 * @return the 50th percentile in nanoseconds.
+		 */
+		long getP50Nanos();
+		
+		/**
+		 * Determine the 99th percentile of the time of the operation.
+		 * 
+		 * @return the 99th percentile in nanoseconds.
+		 */
+		long getP99Nanos();
+		
+		/**
+		 * Determine the 99.9th percentile of the time of the operation.
+		 * 
+		 * @return the 99.9th percentile in nanoseconds.
+		 */
+		long getP999Nanos();
+	}
+	
+	/**
+	 * <p>This {@code Operation} class is the measurements of one operation.</p>
+	 */
+	private static class Operation implements OperationMXBean {
+		/**
+		 * The name of the operation.
+		 */
+		private final String name;
+		
+		/**
+		 * The number of times the operation was measured.
+		 */
+		private final LongAdder count = new LongAdder();
+		
+		/**
+		 * The number of cells touched.
+		 */
+		private final LongAdder cells = new LongAdder();
+		
+		/**
+		 * The total time in nanoseconds.
+		 */
+		private final LongAdder nanos = new LongAdder();
+		
+		/**
+		 * The longest time in nanoseconds.
+		 */
+		private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+		
+		/**
+		 * The number of times in every bucket, see {@link EngineMetrics#bucket(long)}.
+		 */
+		private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+		
+		/**
+		 * Creates an {@code Operation}.
+		 * 
+		 * @param name is the name of the operation.
+		 */
+		private Operation(String name) {
+			this.name = name;
+		}
+		
+		@Override
+		public long getCells() {
+			return this.cells.sum();
+		}
+		
+		@Override
+		public long getCount() {
+			return this.count.sum();
+		}
+		
+		@Override
+		public long getMaxNanos() {
+			return this.max.get();
+		}
+		
+		@Override
+		public double getMeanNanos() {
+			long count = this.count.sum();
+			return count == 0 ? 0 : (double) this.nanos.sum() / count;
+		}
+		
+		@Override
+		public String getName() {
+			return this.name;
+		}
+		
+		@Override
+		public long getP50Nanos() {
+			return this.percentile(0.5);
+		}
+		
+		@Override
+		public long getP99Nanos() {
+			return this.percentile(0.99);
+		}
+		
+		@Override
+		public long getP999Nanos() {
+			return this.percentile(0.999);
+		}
+		
+		/**
+		 * Determine the time that a fraction {@code q} of the measured times are at most.
+		 * 
+		 * @param q is the fraction, from 0 to 1.
+		 * 
+		 * @return the highest time in the bucket holding the percentile, in nanoseconds, or 0 if it was never measured.
+		 */
+		private long percentile(double q) {
+			long total = 0;
+			for (int i = 0; i < BUCKETS; i++) total += this.histogram.get(i);
+			if (total == 0) return 0;
+			
+			long rank = Math.max(1, (long) Math.ceil(q * total));
+			for (int i = 0; i < BUCKETS; i++) {
+				rank -= this.histogram.get(i);
+				if (rank <= 0) return Math.min(highest(i), this.max.get());
+			} return this.max.get();
+		}
+		
+		/**
+		 * Add one operation.
+		 * 
+		 * @param nanos	is the time it took.
+		 * @param cells	is the number of cells it touched.
+		 */
+		private void record(long nanos, int cells) {
+			this.count.increment();
+			this.cells.add(cells);
+			this.nanos.add(nanos);
+			this.max.accumulate(nanos);
+			this.histogram.incrementAndGet(bucket(nanos));
+		}
+		
+		/**
+		 * Forget every measurement.
+		 */
+		private void reset() {
+			this.count.reset();
+			this.cells.reset();
+			this.nanos.reset();
+			this.max.reset();
+			for (int i = 0; i < BUCKETS; i++) this.histogram.set(i, 0);
+		}
+	}
+	
+	/**
+	 * <p>This {@code OperationEvent} class is the Java Flight Recorder event of one measured operation.</p>
+	 */
+	@Name("minesweeper.Operation")
+	@Label("Minesweeper Operation")
+	@Category("Minesweeper")
+	@Description("An operation of the game engine and the number of cells it touched")
+	public static class OperationEvent extends jdk.jfr.Event {
+		/**
+		 * The name of the operation.
+		 */
+		@Label("Operation")
+		String operation;
+		
+		/**
+		 * The number of cells touched.
+		 */
+		@Label("Cells")
+		int cells;
+		
+		/**
+		 * The time the operation took.
+		 */
+		@Label("Time")
+		@Timespan(Timespan.NANOSECONDS)
+		long nanos;
+	}
+	
+	/**
+	 * {@code EngineMetrics} only has static members.
+	 */
+	private EngineMetrics() {}
+	
+	/**
+	 * Determine the bucket of {@code value}: the values below {@value #SUB_BUCKETS} have their own, and every power of two above is split
+	 * into {@value #SUB_BUCKETS} by the bits after its top bit.
+	 * 
+	 * @param value is a value that is not negative.
+	 * 
+	 * @return the bucket.
+	 */
+	private static int bucket(long value) {
+		if (value < SUB_BUCKETS) return (int) Math.max(value, 0);
+		int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		return (exponent - SUB_BITS + 1) * SUB_BUCKETS + (int) (value >>> (exponent - SUB_BITS)) - SUB_BUCKETS;
+	}
+	
+	/**
+	 * Determine the highest value of bucket {@code i}.
+	 * 
+	 * @param i is the bucket.
+	 * 
+	 * @return the highest value.
+	 */
+	private static long highest(int i) {
+		if (i < SUB_BUCKETS) return i;
+		int exponent = i / SUB_BUCKETS + SUB_BITS - 1;
+		long mantissa = i % SUB_BUCKETS + SUB_BUCKETS + 1;
+		return exponent == Long.SIZE - 1 && mantissa == 2 * SUB_BUCKETS ? Long.MAX_VALUE : (mantissa << (exponent - SUB_BITS)) - 1;
+	}
+	
+	/**
+	 * Determine the measurements of {@code operation}.
+	 * 
+	 * @param operation is {@link #REVEAL}, {@link #CHORD}, {@link #RESET}, {@link #COUNT} or {@link #REVEAL_BOMB}.
+	 * 
+	 * @return the {@link OperationMXBean}.
+	 */
+	public static OperationMXBean get(int operation) {
+		return operations[operation];
+	}
+	
+	/**
+	 * Determine if operations are measured.
+	 * 
+	 * @return {@link #isEnabled}
+	 */
+	public static boolean isEnabled() {
+		return isEnabled;
+	}
+	
+	/**
+	 * Register the switch and every operation with the platform {@link MBeanServer}, once.<br>
+	 * Nothing happens if they are registered already, even by another copy of this class.
+	 * 
+	 * @throws IllegalStateException if they cannot be registered.
+	 */
+	public static synchronized void register() throws IllegalStateException {
+		if (isRegistered) return;
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			ObjectName control = new ObjectName("Minesweeper:type=EngineMetrics");
+			if (server.isRegistered(control)) {
+				isRegistered = true;
+				return;
+			}
+			
+			server.registerMBean(new ControlMXBean() {
+				@Override
+				public boolean isEnabled() {
+					return EngineMetrics.isEnabled();
+				}
+				
+				@Override
+				public void setEnabled(boolean isEnabled) {
+					EngineMetrics.setEnabled(isEnabled);
+				}
+				
+				@Override
+				public void reset() {
+					EngineMetrics.reset();
+				}
+			}, control);
+			for (Operation operation : operations) server.registerMBean(operation, new ObjectName("Minesweeper:type=EngineMetrics,operation=" + operation.name));
+		} catch (JMException jme) {
+			throw new IllegalStateException("Could not register metrics", jme);
+		} isRegistered = true;
+	}
+	
+	/**
+	 * Forget every measurement.
+	 */
+	public static void reset() {
+		for (Operation operation : operations) operation.reset();
+	}
+	
+	/**
+	 * Set whether operations are measured.
+	 * 
+	 * @param isEnabled is the new value.
+	 */
+	public static void setEnabled(boolean isEnabled) {
+		EngineMetrics.isEnabled = isEnabled;
+	}
+	
+	/**
+	 * Set whether the operations of the current thread are left out.<br>
+	 * Boards played on behalf of another operation, such as the boards tried by {@link NoGuessGenerator}, are muted so that only games people play are measured.
+	 * 
+	 * @param isMuted is the new value.
+	 * 
+	 * @return the previous value, to restore afterwards.
+	 */
+	public static boolean setMuted(boolean isMuted) {
+		boolean previous = EngineMetrics.isMuted.get();
+		EngineMetrics.isMuted.set(isMuted);
+		return previous;
+	}
+	
+	/**
+	 * Start timing an operation.
+	 * 
+	 * @return the value of {@link System#nanoTime()}, or 0 if operations are not measured or the current thread is muted.
+	 */
+	public static long start() {
+		return isEnabled && !isMuted.get() ? System.nanoTime() : 0L;
+	}
+	
+	/**
+	 * Stop timing an operation and record it.
+	 * 
+	 * @param operation	is {@link #REVEAL}, {@link #CHORD}, {@link #RESET}, {@link #COUNT} or {@link #REVEAL_BOMB}.
+	 * @param start		is the value returned by {@link #start()}; nothing is recorded if it is 0.
+	 * @param cells		is the number of cells the operation touched.
+	 */
+	public static void stop(int operation, long start, int cells) {
+		if (start == 0L) return;
+		long nanos = System.nanoTime() - start;
+		operations[operation].record(nanos, cells);
+		if (!eventType.isEnabled()) return;
+		
+		OperationEvent event = new OperationEvent();
+		event.operation = names[operation];
+		event.cells = cells;
+		event.nanos = nanos;
+		event.commit();
+	}
+}
\ No newline at end of file
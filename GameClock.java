@@ -0,0 +1,120 @@
+/**
+ * <p>This {@code GameClock} class measures how long a game of {@link Minesweeper} has been played.</p>
+ * <p>It only stores {@link System#nanoTime()} when it is started and stopped, so it needs no thread.
+ * It can be read from any thread, since every change publishes one immutable {@link State}.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class GameClock {
+	/**
+	 * The {@link State} of a clock that was never started.
+	 */
+	private static final State STOPPED = new State(0L, 0L, false);
+	
+	/**
+	 * The current {@link State}.
+	 */
+	private volatile State state = STOPPED;
+	
+	/**
+	 * <p>This {@code State} class is what a {@link GameClock} holds at one time, so that every field of it is read together.</p>
+	 */
+	private static final class State {
+		/**
+		 * The value of {@link System#nanoTime()} when the clock was started.
+		 */
+		private final long start;
+		
+		/**
+		 * The number of nanoseconds measured before the clock was last started.
+		 */
+		private final long elapsed;
+		
+		/**
+		 * A boolean determining if the clock is running.
+		 */
+		private final boolean isRunning;
+		
+		/**
+		 * Creates a {@code State}.
+		 * 
+		 * @param start		is the value of {@link System#nanoTime()} when the clock was started.
+		 * @param elapsed	is the number of nanoseconds measured before the clock was last started.
+		 * @param isRunning	determines if the clock is running.
+		 */
+		private State(long start, long elapsed, boolean isRunning) {
+			this.start = start;
+			this.elapsed = elapsed;
+			this.isRunning = isRunning;
+		}
+	}
+	
+	/**
+	 * Determine how long this has been running.
+	 * 
+	 * @return the elapsed time in milliseconds.
+	 */
+	public long getElapsedMillis() {
+		return this.getElapsedNanos() / 1_000_000L;
+	}
+	
+	/**
+	 * Determine how long this has been running.
+	 * 
+	 * @return the elapsed time in nanoseconds.
+	 */
+	public long getElapsedNanos() {
+		State state = this.state;
+		return state.isRunning ? state.elapsed + System.nanoTime() - state.start : state.elapsed;
+	}
+	
+	/**
+	 * Determine if this is running.
+	 * 
+	 * @return {@code true} if it is running.
+	 */
+	public boolean isRunning() {
+		return this.state.isRunning;
+	}
+	
+	/**
+	 * Stop this and set the elapsed time back to 0.
+	 */
+	public void reset() {
+		this.reset(0L);
+	}
+	
+	/**
+	 * Stop this and set the elapsed time to {@code elapsed}, to resume a game saved earlier.
+	 * 
+	 * @param elapsed is the elapsed time in nanoseconds.
+	 */
+	public void reset(long elapsed) {
+		this.state = elapsed == 0L ? STOPPED : new State(0L, elapsed, false);
+	}
+	
+	/**
+	 * Start this if it is not running.
+	 */
+	public void start() {
+		State state = this.state;
+		if (state.isRunning) return;
+		this.state = new State(System.nanoTime(), state.elapsed, true);
+	}
+	
+	/**
+	 * Stop this if it is running, keeping the elapsed time.
+	 */
+	public void stop() {
+		State state = this.state;
+		if (!state.isRunning) return;
+		this.state = new State(0L, state.elapsed + System.nanoTime() - state.start, false);
+	}
+	
+	@Override
+	public String toString() {
+		long millis = this.getElapsedMillis();
+		return String.format("%d.%03d", millis / 1000L, millis % 1000L);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,484 @@
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * <p>This {@code GameEngine} class plays a {@link MinesweeperBoard} on a thread of its own, so that no move ever runs on the event dispatch thread.</p>
+ * <p>Moves are queued from any thread and played in order by the one engine thread, the only thread that changes the board.
+ * Every move waiting when the engine wakes is played before anything is published, and the cells they changed are handed to the event dispatch thread
+ * as one {@link Batch}, which the {@link Listener} repaints at once. A game won or lost is an event of the batch rather than a dialog opened by the board.</p>
+ * <p>The event dispatch thread never reads the board. Each batch carries the value of every cell it changed, the state of the game and,
+ * if they are shown, the probabilities that each cell is a bomb, all taken on the engine thread once its moves were played.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class GameEngine implements Runnable {
+	/**
+	 * <p>This {@code Listener} interface is told on the event dispatch thread what the moves of {@link GameEngine} changed.</p>
+	 */
+	public interface Listener {
+		/**
+		 * The moves of {@code batch} were played.
+		 * 
+		 * @param batch is the {@link Batch}.
+		 */
+		void changed(Batch batch);
+		
+		/**
+		 * A move of the last batch lost the game.
+		 * 
+		 * @param index is the bomb revealed.
+		 */
+		void lost(int index);
+		
+		/**
+		 * A move of the last batch won the game.
+		 * 
+		 * @param elapsed is the time the game took in nanoseconds.
+		 */
+		void won(long elapsed);
+	}
+	
+	/**
+	 * <p>This {@code Batch} class is every cell changed by the moves played at once by {@link GameEngine}, and the state of the game after them.</p>
+	 * <p>It is filled on the engine thread and only read once published, so the event dispatch thread never reads the board.</p>
+	 */
+	public static class Batch {
+		/**
+		 * The first cell revealed, see {@link MinesweeperModel#getRevealed(int)}.
+		 */
+		private final int from;
+		
+		/**
+		 * The cells changed: the cells revealed, then the cells flagged or unflagged, then, if the game was lost, every bomb and flag.
+		 */
+		private int[] cells = new int[0x10];
+		
+		/**
+		 * The number of {@link #cells}.
+		 */
+		private int numCells;
+		
+		/**
+		 * The number of {@link #cells} revealed.
+		 */
+		private int numRevealed;
+		
+		/**
+		 * The number of {@link #cells} flagged or unflagged.
+		 */
+		private int numFlagged;
+		
+		/**
+		 * The value of each of {@link #cells} after the moves, see {@link MinesweeperModel#getCells()}.
+		 */
+		private byte[] values;
+		
+		/**
+		 * A boolean determining if every cell may have changed.
+		 */
+		private boolean isAll;
+		
+		/**
+		 * The value of every cell after the moves if {@link #isAll}, or {@code null}.
+		 */
+		private byte[] all;
+		
+		/**
+		 * The bomb that lost the game, or -1.
+		 */
+		private int lost = -1;
+		
+		/**
+		 * The time the game that was won took in nanoseconds, or -1.
+		 */
+		private long won = -1;
+		
+		/**
+		 * A boolean determining if the game is over.
+		 */
+		private boolean isGameOver;
+		
+		/**
+		 * The bomb that ended the game, or -1.
+		 */
+		private int exploded;
+		
+		/**
+		 * The number of bombs left to flag.
+		 */
+		private int flags;
+		
+		/**
+		 * A boolean determining if the next game has no guessing.
+		 */
+		private boolean isNoGuess;
+		
+		/**
+		 * A boolean determining if the game is timed.
+		 */
+		private boolean isRunning;
+		
+		/**
+		 * The probability that each cell is a bomb, or {@code null} if it is not shown.
+		 */
+		private double[] probabilities;
+		
+		/**
+		 * Creates a {@code Batch}.
+		 * 
+		 * @param from is the first cell revealed.
+		 */
+		private Batch(int from) {
+			this.from = from;
+		}
+		
+		/**
+		 * Add the cell {@code index}.
+		 * 
+		 * @param index is the cell.
+		 */
+		private void add(int index) {
+			if (this.numCells == this.cells.length) this.cells = Arrays.copyOf(this.cells, this.numCells << 1);
+			this.cells[this.numCells++] = index;
+		}
+		
+		/**
+		 * Returns {@link #exploded}
+		 * 
+		 * @return {@code exploded}.
+		 */
+		public int getExploded() {
+			return this.exploded;
+		}
+		
+		/**
+		 * Returns {@link #flags}
+		 * 
+		 * @return {@code flags}.
+		 */
+		public int getFlags() {
+			return this.flags;
+		}
+		
+		/**
+		 * Determine if the game is over.
+		 * 
+		 * @return {@link #isGameOver}
+		 */
+		public boolean getGameOver() {
+			return this.isGameOver;
+		}
+		
+		/**
+		 * Returns {@link #probabilities}
+		 * 
+		 * @return {@code probabilities}, or {@code null} if they are not shown.
+		 */
+		public double[] getProbabilities() {
+			return this.probabilities;
+		}
+		
+		/**
+		 * Determine if every cell may have changed, after a new game or a snapshot was loaded.
+		 * 
+		 * @return {@link #isAll}
+		 */
+		public boolean isAll() {
+			return this.isAll;
+		}
+		
+		/**
+		 * Determine if the next game has no guessing.
+		 * 
+		 * @return {@link #isNoGuess}
+		 */
+		public boolean isNoGuess() {
+			return this.isNoGuess;
+		}
+		
+		/**
+		 * Determine if the game is timed.
+		 * 
+		 * @return {@link #isRunning}
+		 */
+		public boolean isRunning() {
+			return this.isRunning;
+		}
+		
+		/**
+		 * Repaint every cell changed on {@code view}.<br>
+		 * Only the revealed range and the cells flagged are repainted, and, if the game was lost, the bombs and the flags.
+		 * 
+		 * @param view is the {@link BoardView}.
+		 */
+		public void repaint(BoardView view) {
+			if (this.isAll) {
+				view.repaint();
+				return;
+			}
+			
+			int lost = this.numRevealed + this.numFlagged;
+			view.repaintRevealed(this.cells, 0, this.numRevealed);
+			for (int i = this.numRevealed; i < lost; i++) view.repaintCell(this.cells[i]);
+			if (this.lost < 0) return;
+			long start = EngineMetrics.start();
+			for (int i = lost; i < this.numCells; i++) view.repaintCell(this.cells[i]);
+			EngineMetrics.stop(EngineMetrics.REVEAL_BOMB, start, this.numCells - lost);
+		}
+		
+		/**
+		 * Write the value of every cell changed into {@code cells}, the copy of the board kept by the event dispatch thread.
+		 * 
+		 * @param cells is the value of every cell before the moves, or {@code null} before the first batch.
+		 * 
+		 * @return the value of every cell after the moves, which is a new array if {@link #isAll}.
+		 */
+		public byte[] update(byte[] cells) {
+			if (this.isAll) return this.all;
+			for (int i = 0; i < this.numCells; i++) cells[this.cells[i]] = this.values[i];
+			return cells;
+		}
+	}
+	
+	/**
+	 * The {@link MinesweeperBoard}, changed by {@link #thread} only.
+	 */
+	private final MinesweeperBoard board;
+	
+	/**
+	 * The {@link Listener}.
+	 */
+	private final Listener listener;
+	
+	/**
+	 * The moves waiting to be played.
+	 */
+	private final BlockingQueue<Consumer<Batch>> commands = new LinkedBlockingQueue<>();
+	
+	/**
+	 * The engine thread.
+	 */
+	private final Thread thread;
+	
+	/**
+	 * A boolean determining if the probability that each cell is a bomb is determined after every batch. It is read and written by {@link #thread} only.
+	 */
+	private boolean isProbabilityShown;
+	
+	/**
+	 * The {@link MineProbability} of {@link #board}, created the first time it is shown.
+	 */
+	private MineProbability probability;
+	
+	/**
+	 * The arrays of probabilities {@link #release(double[]) released} by the {@link Listener}, which the next batches are stored into.
+	 */
+	private final Queue<double[]> spare = new ConcurrentLinkedQueue<>();
+	
+	/**
+	 * Creates a {@code GameEngine}, which plays nothing until it is {@link #start()}ed.
+	 * 
+	 * @param board		is the {@link MinesweeperBoard}, which no other thread may change from now on.
+	 * @param listener	is the {@link Listener}.
+	 * 
+	 * @throws NullPointerException if {@code board} or {@code listener} is {@code null}.
+	 */
+	public GameEngine(MinesweeperBoard board, Listener listener) throws NullPointerException {
+		this.board = Objects.requireNonNull(board, "GameEngine must have a MinesweeperBoard");
+		this.listener = Objects.requireNonNull(listener, "GameEngine must have a Listener");
+		this.thread = new Thread(this, "GameEngine");
+		this.thread.setDaemon(true);
+	}
+	
+	/**
+	 * Chord the cell at ({@code row}, {@code col}).
+	 * 
+	 * @param row is the row of the cell.
+	 * @param col is the column of the cell.
+	 * 
+	 * @see MinesweeperBoard#chord(int, int)
+	 */
+	public void chord(int row, int col) {
+		this.commands.add(batch -> this.board.chord(row, col));
+	}
+	
+	/**
+	 * Fill {@code batch} with the value of every cell its moves changed and the state of the game, on the engine thread.
+	 * 
+	 * @param batch is the {@link Batch}.
+	 */
+	private void close(Batch batch) {
+		MinesweeperModel model = this.board.getModel();
+		byte[] cells = model.getCells();
+		if (batch.isAll) {
+			batch.all = Arrays.copyOf(cells, cells.length);
+			batch.numCells = 0;
+		} else {
+			int[] flagged = batch.cells;
+			int numRevealed = this.board.getNumReveal() - batch.from, numFlagged = batch.numCells, lost = numRevealed + numFlagged;
+			batch.cells = new int[lost + (batch.lost < 0 ? 0 : model.getNumMines() + model.getNumFlags())];
+			for (int i = 0; i < numRevealed; i++) batch.cells[i] = model.getRevealed(batch.from + i);
+			System.arraycopy(flagged, 0, batch.cells, numRevealed, numFlagged);
+			if (batch.lost >= 0) {
+				for (int i = 0; i < model.getNumMines(); i++) batch.cells[lost + i] = model.getMine(i);
+				for (int i = 0; i < model.getNumFlags(); i++) batch.cells[lost + model.getNumMines() + i] = model.getFlag(i);
+			}
+			
+			batch.numCells = batch.cells.length;
+			batch.numRevealed = numRevealed;
+			batch.numFlagged = numFlagged;
+			batch.values = new byte[batch.numCells];
+			for (int i = 0; i < batch.numCells; i++) batch.values[i] = cells[batch.cells[i]];
+		}
+		
+		batch.isGameOver = this.board.getGameOver();
+		batch.exploded = this.board.getExploded();
+		batch.flags = this.board.getFlags();
+		batch.isNoGuess = this.board.isNoGuess();
+		batch.isRunning = this.board.getClock().isRunning();
+		if (!this.isProbabilityShown) return;
+		if (this.probability == null) this.probability = new MineProbability(this.board);
+		int size = this.board.getModel().size();
+		double[] out = this.spare.poll();
+		batch.probabilities = out != null && out.length == size ? out : new double[size];
+		this.probability.compute(batch.probabilities);
+	}
+	
+	/**
+	 * Play {@code command}.
+	 * 
+	 * @param command	is the move.
+	 * @param batch		is the {@link Batch} it belongs to.
+	 */
+	private void execute(Consumer<Batch> command, Batch batch) {
+		boolean isGameOver = this.board.getGameOver();
+		try {
+			command.accept(batch);
+		} catch (RuntimeException re) {
+			this.thread.getUncaughtExceptionHandler().uncaughtException(this.thread, re);
+		}
+		
+		if (isGameOver || !this.board.getGameOver()) return;
+		if (this.board.getExploded() >= 0)	batch.lost = this.board.getExploded();
+		else								batch.won = this.board.getClock().getElapsedNanos();
+	}
+	
+	/**
+	 * Flag or unflag the cell at ({@code row}, {@code col}).
+	 * 
+	 * @param row is the row of the cell.
+	 * @param col is the column of the cell.
+	 * 
+	 * @see MinesweeperBoard#flag(int, int)
+	 */
+	public void flag(int row, int col) {
+		this.commands.add(batch -> {
+			this.board.flag(row, col);
+			batch.add(this.board.getModel().index(row, col));
+		});
+	}
+	
+	/**
+	 * Tell {@link #listener} about {@code batch}.<br>
+	 * This is called on the event dispatch thread.
+	 * 
+	 * @param batch is the {@link Batch}.
+	 */
+	private void publish(Batch batch) {
+		this.listener.changed(batch);
+		if (batch.lost >= 0)	this.listener.lost(batch.lost);
+		if (batch.won >= 0)		this.listener.won(batch.won);
+	}
+	
+	/**
+	 * Create a new game.
+	 * 
+	 * @see MinesweeperBoard#reset()
+	 */
+	public void reset() {
+		this.submit(MinesweeperBoard::reset);
+	}
+	
+	/**
+	 * Reveal the cell at ({@code row}, {@code col}).
+	 * 
+	 * @param row is the row of the cell.
+	 * @param col is the column of the cell.
+	 * 
+	 * @see MinesweeperBoard#reveal(int, int)
+	 */
+	public void reveal(int row, int col) {
+		this.commands.add(batch -> this.board.reveal(row, col));
+	}
+	
+	@Override
+	public void run() {
+		try {
+			while (true) {
+				Batch batch = new Batch(this.board.getNumReveal());
+				this.execute(this.commands.take(), batch);
+				for (Consumer<Batch> command; (command = this.commands.poll()) != null;) this.execute(command, batch);
+				this.close(batch);
+				SwingUtilities.invokeLater(() -> this.publish(batch));
+			}
+		} catch (InterruptedException ie) {
+			return;
+		}
+	}
+	
+	/**
+	 * Hand back the probabilities of a batch that are no longer read, so that a later batch stores its own into them.
+	 * 
+	 * @param probabilities is the array of {@link Batch#getProbabilities()}, or {@code null}.
+	 */
+	public void release(double[] probabilities) {
+		if (probabilities != null) this.spare.add(probabilities);
+	}
+	
+	/**
+	 * Determine the probability that each cell is a bomb after every batch from now on, or stop.
+	 * 
+	 * @param isShown determines if the probabilities are shown.
+	 * 
+	 * @see Batch#getProbabilities()
+	 */
+	public void setProbabilityShown(boolean isShown) {
+		this.commands.add(batch -> this.isProbabilityShown = isShown);
+	}
+	
+	/**
+	 * Start the engine thread, which first publishes every cell.
+	 */
+	public void start() {
+		this.submit(board -> {});
+		this.thread.start();
+	}
+	
+	/**
+	 * Stop the engine thread after the move it is playing. The moves still waiting are dropped.
+	 */
+	public void stop() {
+		this.thread.interrupt();
+	}
+	
+	/**
+	 * Play {@code command} on the board on the engine thread, after every move queued before it.<br>
+	 * Every cell is repainted afterwards, so this suits anything other than a single move, such as loading a {@link BoardSnapshot}.
+	 * 
+	 * @param command is what to do with the {@link MinesweeperBoard}.
+	 */
+	public void submit(Consumer<MinesweeperBoard> command) {
+		this.commands.add(batch -> {
+			batch.isAll = true;
+			command.accept(this.board);
+		});
+	}
+}
\ No newline at end of file
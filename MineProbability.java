@@ -0,0 +1,471 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>This {@code MineProbability} class determines the exact probability that each cell of a {@link MinesweeperBoard} is a bomb.</p>
+ * <p>It only looks at what a player can see, and trusts every flag to be a bomb. The hidden cells next to a revealed count form the
+ * frontier, which is split into components that share no count. Every component is enumerated with backtracking on its own
+ * thread of a {@link ForkJoinPool}, counting its solutions by number of bombs. The components are then combined with the cells off
+ * the frontier, which are weighted with binomials computed from a table of log factorials so that large boards do not overflow.</p>
+ * <p>The time taken grows exponentially with the size of a component, so a component of more than {@link #MAX_CELLS} cells, or whose
+ * enumeration takes more than {@link #MAX_STEPS} steps, is approximated instead: its cells are weighed as if they were off the frontier,
+ * and each is given the average share of the bombs its counts still need. Every call therefore takes bounded time on any board.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class MineProbability {
+	/**
+	 * The most cells of a component that is enumerated.
+	 */
+	public static final int MAX_CELLS = 0x40;
+	
+	/**
+	 * The most steps of the enumeration of one component.
+	 */
+	public static final int MAX_STEPS = 1 << 22;
+	
+	/**
+	 * This {@code Component} class enumerates every way to place bombs on one component of the frontier.
+	 * 
+	 * @version 17 October 2026
+	 * @author MrPineapple065
+	 */
+	private static class Component extends RecursiveAction {
+		/**
+		 * serialVersionUID
+		 */
+		private static final long serialVersionUID = 0x6A41C7D2E58B0F93L;
+		
+		/**
+		 * The index of every cell.
+		 */
+		private final int[] cells;
+		
+		/**
+		 * The number of bombs each count still needs.
+		 */
+		private final int[] need;
+		
+		/**
+		 * The counts around each cell, by position in {@link #cells}.
+		 */
+		private final int[][] counts;
+		
+		/**
+		 * The most bombs the component can hold.
+		 */
+		private final int limit;
+		
+		/**
+		 * The number of bombs each count has been given.
+		 */
+		private final int[] given;
+		
+		/**
+		 * The number of cells around each count that have not been given a value.
+		 */
+		private final int[] left;
+		
+		/**
+		 * A boolean for each cell determining if it has been given a bomb.
+		 */
+		private final boolean[] isMine;
+		
+		/**
+		 * The number of solutions, by number of bombs.
+		 */
+		private final double[] ways;
+		
+		/**
+		 * The number of solutions with a bomb on each cell, by cell then number of bombs.
+		 */
+		private final double[][] mineWays;
+		
+		/**
+		 * The number of steps the enumeration has taken.
+		 */
+		private int steps;
+		
+		/**
+		 * Create a {@code Component}.
+		 * 
+		 * @param cells		is the index of every cell.
+		 * @param need		is the number of bombs each count still needs.
+		 * @param counts	is the counts around each cell.
+		 * @param left		is the number of cells around each count.
+		 * @param limit		is the most bombs the component can hold.
+		 */
+		public Component(int[] cells, int[] need, int[][] counts, int[] left, int limit) {
+			this.cells = cells;
+			this.need = need;
+			this.counts = counts;
+			this.left = left;
+			this.limit = limit;
+			this.given = new int[need.length];
+			this.isMine = new boolean[cells.length];
+			this.ways = new double[cells.length + 1];
+			this.mineWays = cells.length > MAX_CELLS ? null : new double[cells.length][cells.length + 1];
+			if (this.mineWays == null) this.steps = MAX_STEPS + 1;
+		}
+		
+		/**
+		 * Give every cell from {@code i} on a value.
+		 * 
+		 * @param i		is the next cell.
+		 * @param mines	is the number of bombs given so far.
+		 */
+		private void backtrack(int i, int mines) {
+			if (++this.steps > MAX_STEPS) return;
+			if (i == this.cells.length) {
+				this.ways[mines]++;
+				for (int j = 0; j < this.cells.length; j++) if (this.isMine[j]) this.mineWays[j][mines]++;
+				return;
+			}
+			
+			for (int value = 0; value <= 1; value++) {
+				if (mines + value > this.limit) return;
+				boolean isLegal = true;
+				for (int c : this.counts[i]) {
+					this.left[c]--;
+					this.given[c] += value;
+					if (this.given[c] > this.need[c] || this.given[c] + this.left[c] < this.need[c]) isLegal = false;
+				}
+				
+				this.isMine[i] = value == 1;
+				if (isLegal) this.backtrack(i + 1, mines + value);
+				
+				for (int c : this.counts[i]) {
+					this.left[c]++;
+					this.given[c] -= value;
+				}
+			} this.isMine[i] = false;
+		}
+		
+		@Override
+		protected void compute() {
+			this.backtrack(0, 0);
+		}
+		
+		/**
+		 * Determine if the enumeration was given up.
+		 * 
+		 * @return {@code true} if it took more than {@link #MAX_STEPS} steps.
+		 */
+		private boolean isApproximate() {
+			return this.steps > MAX_STEPS;
+		}
+		
+		/**
+		 * Approximate the probability that each cell is a bomb by the share of the bombs its counts still need, and store it into {@code out}.<br>
+		 * A cell next to a count that needs no more bombs is safe, and a cell next to a count that needs every cell around it is a bomb.
+		 * 
+		 * @param out is where to store the probability of every cell.
+		 */
+		private void approximate(double[] out) {
+			for (int i = 0; i < this.cells.length; i++) {
+				double sum = 0, p = Double.NaN;
+				for (int c : this.counts[i]) {
+					if (this.need[c] <= 0)						p = 0;
+					else if (this.need[c] >= this.left[c])		p = Double.isNaN(p) ? 1 : p;
+					sum += Math.min(Math.max((double) this.need[c] / this.left[c], 0), 1);
+				} out[this.cells[i]] = Double.isNaN(p) ? sum / this.counts[i].length : p;
+			}
+		}
+	}
+	
+	/**
+	 * The {@link MinesweeperBoard} being looked at.
+	 */
+	private final MinesweeperBoard board;
+	
+	/**
+	 * The {@link MinesweeperModel} of {@link #board}.
+	 */
+	private final MinesweeperModel model;
+	
+	/**
+	 * The {@link ForkJoinPool} enumerating the components.
+	 */
+	private final ForkJoinPool pool;
+	
+	/**
+	 * The natural log of every factorial from 0 to the most hidden cells seen so far.
+	 */
+	private double[] logFactorial = new double[1];
+	
+	/**
+	 * The value of {@link #stamp} when each cell or count was last seen.
+	 */
+	private final int[] mark;
+	
+	/**
+	 * The position of every count in its component.
+	 */
+	private final int[] local;
+	
+	/**
+	 * The value {@link #mark} holds for cells and counts seen by the current call of {@link #compute(double[])}.
+	 */
+	private int stamp;
+	
+	/**
+	 * Creates a {@code MineProbability} running on {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param board is the {@link MinesweeperBoard} to look at.
+	 * 
+	 * @throws NullPointerException if {@code board} is {@code null}.
+	 */
+	public MineProbability(MinesweeperBoard board) throws NullPointerException {
+		this(board, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Creates a {@code MineProbability}.
+	 * 
+	 * @param board	is the {@link MinesweeperBoard} to look at.
+	 * @param pool	is the {@link ForkJoinPool} enumerating the components.
+	 * 
+	 * @throws NullPointerException if {@code board} or {@code pool} is {@code null}.
+	 */
+	public MineProbability(MinesweeperBoard board, ForkJoinPool pool) throws NullPointerException {
+		this.board = Objects.requireNonNull(board, "MineProbability must have a MinesweeperBoard");
+		this.pool = Objects.requireNonNull(pool, "MineProbability must have a ForkJoinPool");
+		this.model = board.getModel();
+		this.mark = new int[this.model.size()];
+		this.local = new int[this.model.size()];
+	}
+	
+	/**
+	 * Determine the natural log of {@code n} choose {@code k}.
+	 * 
+	 * @param n is the number of cells.
+	 * @param k is the number of bombs.
+	 * 
+	 * @return the log of the binomial, or {@link Double#NEGATIVE_INFINITY} if {@code k} is out of range.
+	 */
+	private double logChoose(int n, int k) {
+		if (k < 0 || k > n) return Double.NEGATIVE_INFINITY;
+		return this.logFactorial[n] - this.logFactorial[k] - this.logFactorial[n - k];
+	}
+	
+	/**
+	 * Determine the probability that each cell is a bomb, into a new array.
+	 * 
+	 * @return the probability of every cell. Revealed cells are 0, flagged cells are 1,
+	 * and every other cell is {@link Double#NaN} if the flags and counts contradict each other.
+	 */
+	public double[] compute() {
+		double[] probabilities = new double[this.model.size()];
+		this.compute(probabilities);
+		return probabilities;
+	}
+	
+	/**
+	 * Determine the probability that each cell is a bomb, and store it into {@code out}.<br>
+	 * The {@link MinesweeperBoard} must not change while this runs.
+	 * 
+	 * @param out is where to store the probability of every cell.
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code out} is shorter than the board.
+	 */
+	public void compute(double[] out) throws IndexOutOfBoundsException {
+		if (out.length < this.model.size()) throw new IndexOutOfBoundsException("Illegal length: " + out.length);
+		if (++this.stamp == 0) {
+			Arrays.fill(this.mark, 0);
+			this.stamp = 1;
+		}
+		
+		int remaining = this.board.getNumBombs() - this.model.getNumFlags(), hidden = 0;
+		for (int i = 0; i < this.model.size(); i++) {
+			out[i] = this.model.isRevealed(i) ? 0 : this.model.isFlagged(i) ? 1 : Double.NaN;
+			if (!this.model.isRevealed(i) && !this.model.isFlagged(i)) hidden++;
+		}
+		
+		if (hidden >= this.logFactorial.length) {
+			int from = this.logFactorial.length;
+			this.logFactorial = Arrays.copyOf(this.logFactorial, hidden + 1);
+			for (int i = from; i <= hidden; i++) this.logFactorial[i] = this.logFactorial[i - 1] + Math.log(i);
+		}
+		
+		List<Component> components = this.split(Math.max(remaining, 0));
+		if (components.size() == 1) components.get(0).invoke();
+		else if (!components.isEmpty()) this.pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(components)));
+		
+		//A component that was approximated is weighed as cells off the frontier.
+		List<Component> approximate = new ArrayList<>();
+		for (int i = components.size() - 1; i >= 0; i--) if (components.get(i).isApproximate()) approximate.add(components.remove(i));
+		int frontier = 0;
+		for (Component c : components) frontier += c.cells.length;
+		int outside = hidden - frontier;
+		
+		//Convolve the components, keeping every prefix and suffix so each one can be left out.
+		//Each is scaled down to a largest value of 1, keeping the log of the scale, so that many components do not overflow.
+		int n = components.size();
+		double[][] prefix = new double[n + 1][], suffix = new double[n + 1][];
+		double[] prefixScale = new double[n + 1], suffixScale = new double[n + 1];
+		prefix[0] = suffix[n] = new double[] {1};
+		for (int i = 0; i < n; i++) {
+			prefix[i + 1] = convolve(prefix[i], components.get(i).ways);
+			prefixScale[i + 1] = prefixScale[i] + normalize(prefix[i + 1]);
+		}
+		
+		for (int i = n - 1; i >= 0; i--) {
+			suffix[i] = convolve(components.get(i).ways, suffix[i + 1]);
+			suffixScale[i] = suffixScale[i + 1] + normalize(suffix[i]);
+		} double[] all = prefix[n];
+		
+		//Weigh every number of bombs on the frontier by the ways to place the rest off it.
+		double max = Double.NEGATIVE_INFINITY;
+		for (int k = 0; k < all.length; k++) if (all[k] > 0) max = Math.max(max, this.logChoose(outside, remaining - k));
+		if (max == Double.NEGATIVE_INFINITY) return;
+		
+		double[] weight = new double[all.length];
+		double total = 0, off = 0;
+		for (int k = 0; k < all.length; k++) {
+			//A number of bombs the frontier cannot hold weighs nothing, however many ways there are to place the rest.
+			if (all[k] == 0) continue;
+			weight[k] = Math.exp(this.logChoose(outside, remaining - k) - max);
+			total += all[k] * weight[k];
+			if (outside > 0) off += all[k] * weight[k] * (remaining - k) / outside;
+		}
+		
+		for (int i = 0; i < this.model.size(); i++) if (Double.isNaN(out[i])) out[i] = off / total;
+		for (Component c : approximate) c.approximate(out);
+		for (int c = 0; c < n; c++) {
+			Component component = components.get(c);
+			double[] others = convolve(prefix[c], suffix[c + 1]);
+			double scale = Math.exp(prefixScale[c] + suffixScale[c + 1] - prefixScale[n]);
+			for (int i = 0; i < component.cells.length; i++) {
+				double sum = 0;
+				for (int k = 0; k < component.ways.length; k++) {
+					if (component.mineWays[i][k] == 0) continue;
+					for (int j = 0; j < others.length; j++) sum += component.mineWays[i][k] * others[j] * weight[k + j];
+				} out[component.cells[i]] = sum * scale / total;
+			}
+		}
+	}
+	
+	/**
+	 * Determine the number of ways to pick bombs from two independent sets.
+	 * 
+	 * @param a is the number of ways of the first set, by number of bombs.
+	 * @param b is the number of ways of the second set, by number of bombs.
+	 * 
+	 * @return the number of ways of both, by number of bombs.
+	 */
+	private static double[] convolve(double[] a, double[] b) {
+		double[] c = new double[a.length + b.length - 1];
+		for (int i = 0; i < a.length; i++) {
+			if (a[i] == 0) continue;
+			for (int j = 0; j < b.length; j++) c[i + j] += a[i] * b[j];
+		} return c;
+	}
+	
+	/**
+	 * Scale {@code a} so that its largest value is 1.
+	 * 
+	 * @param a is the number of ways, by number of bombs.
+	 * 
+	 * @return the natural log of the largest value, or 0 if every value is 0.
+	 */
+	private static double normalize(double[] a) {
+		double max = 0;
+		for (double x : a) max = Math.max(max, x);
+		if (max == 0) return 0;
+		for (int i = 0; i < a.length; i++) a[i] /= max;
+		return Math.log(max);
+	}
+	
+	/**
+	 * Determine if {@code index} is neither revealed nor flagged.
+	 * 
+	 * @param index is the cell.
+	 * 
+	 * @return {@code true} if the cell is hidden.
+	 */
+	private boolean isHidden(int index) {
+		return !this.model.isRevealed(index) && !this.model.isFlagged(index);
+	}
+	
+	/**
+	 * Split the frontier into components that share no count.
+	 * 
+	 * @param remaining is the number of bombs that are not flagged.
+	 * 
+	 * @return every component, not yet enumerated.
+	 */
+	private List<Component> split(int remaining) {
+		int rowMax = this.model.getRowMax(), colMax = this.model.getColMax();
+		List<Component> components = new ArrayList<>();
+		int[] queue = new int[0x10];
+		
+		for (int r = 0; r < this.model.getNumRevealed(); r++) {
+			int start = this.model.getRevealed(r);
+			if (this.mark[start] == this.stamp || this.model.getCount(start) == 0) continue;
+			
+			//Breadth first search alternating between counts and the hidden cells around them.
+			List<Integer> cells = new ArrayList<>(), counts = new ArrayList<>();
+			int head = 0, tail = 0;
+			queue[tail++] = start;
+			this.mark[start] = this.stamp;
+			
+			while (head < tail) {
+				int next = queue[head++];
+				boolean isCount = this.model.isRevealed(next);
+				if (isCount)	counts.add(next);
+				else			cells.add(next);
+				
+				int row = next / colMax, col = next % colMax;
+				int rowEnd = Math.min(row + 1, rowMax - 1), colEnd = Math.min(col + 1, colMax - 1);
+				for (int i = Math.max(row - 1, 0); i <= rowEnd; i++) {
+					for (int j = Math.max(col - 1, 0); j <= colEnd; j++) {
+						int other = i * colMax + j;
+						if (this.mark[other] == this.stamp) continue;
+						if (isCount ? !this.isHidden(other) : !this.model.isRevealed(other) || this.model.getCount(other) == 0) continue;
+						this.mark[other] = this.stamp;
+						if (tail == queue.length) queue = Arrays.copyOf(queue, tail * 2);
+						queue[tail++] = other;
+					}
+				}
+			}
+			
+			//Number the counts, and give every cell the counts around it.
+			int[] need = new int[counts.size()], left = new int[counts.size()];
+			for (int c = 0; c < need.length; c++) {
+				int count = counts.get(c), row = count / colMax, col = count % colMax;
+				int rowEnd = Math.min(row + 1, rowMax - 1), colEnd = Math.min(col + 1, colMax - 1);
+				need[c] = this.model.getCount(count);
+				for (int i = Math.max(row - 1, 0); i <= rowEnd; i++) {
+					for (int j = Math.max(col - 1, 0); j <= colEnd; j++) {
+						int other = i * colMax + j;
+						if (this.model.isFlagged(other))	need[c]--;
+						else if (this.isHidden(other))		left[c]++;
+					}
+				}
+				this.local[count] = c;
+			}
+			
+			int[] array = new int[cells.size()];
+			int[][] around = new int[array.length][];
+			for (int k = 0; k < array.length; k++) {
+				int cell = array[k] = cells.get(k), row = cell / colMax, col = cell % colMax, n = 0;
+				int rowEnd = Math.min(row + 1, rowMax - 1), colEnd = Math.min(col + 1, colMax - 1);
+				int[] c = new int[8];
+				for (int i = Math.max(row - 1, 0); i <= rowEnd; i++) {
+					for (int j = Math.max(col - 1, 0); j <= colEnd; j++) {
+						int other = i * colMax + j;
+						if (this.model.isRevealed(other) && this.model.getCount(other) != 0) c[n++] = this.local[other];
+					}
+				} around[k] = Arrays.copyOf(c, n);
+			}
+			
+			if (array.length > 0) components.add(new Component(array, need, around, left, remaining));
+		} return components;
+	}
+}
\ No newline at end of file
@@ -2,6 +2,9 @@ import java.awt.Font;
 import java.awt.GridLayout;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 
 import javax.swing.JFrame;
 import javax.swing.JLabel;
@@ -17,13 +20,49 @@ import javax.swing.UIManager;
  * @author MrPineapple065
  */
 public class Minesweeper {
+	/**
+	 * Start the game.<br>
+	 * {@code --journal file} records every game into {@code file}, see {@link MoveJournal}.
+	 * {@code --replay file [speed]} plays the games recorded in {@code file} instead, {@code speed} times faster than they were played.
+	 * {@code --server [port]} hosts headless games over HTTP on {@code port}, 8080 by default, see {@link MinesweeperServer}.
+	 * The engine metrics are published over JMX either way, see {@link EngineMetrics}; the game starts even if they cannot be.
+	 * 
+	 * @param args are the options.
+	 */
 	public static void main(String[] args) {
+		try {
+			EngineMetrics.register();
+		} catch (IllegalStateException ise) {
+			System.err.println(ise.getMessage() + ": " + ise.getCause());
+		}
+		
+		if (args.length >= 1 && args[0].equals("--server")) {
+			try {
+				MinesweeperServer server = new MinesweeperServer(args.length >= 2 ? Integer.parseInt(args[1]) : 8080);
+				server.start();
+				System.out.println("Listening on port " + server.getPort());
+			} catch (IOException | IllegalArgumentException e) {
+				System.err.println("Could not start server: " + e.getMessage());
+				System.exit(1);
+			} return;
+		}
+		
 		JFrame frame = new JFrame("Minesweeper");
 		frame.setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
 		
 		MinesweeperPanel panel = null;
 		
-		switch (JOptionPane.showOptionDialog(null, "Choose Dificulty", "", JOptionPane.OK_OPTION, JOptionPane.PLAIN_MESSAGE, null, new String[] {"Easy", "Medium", "Hard", "Custom", "Cancel" }, 2)) {
+		if (args.length >= 2 && args[0].equals("--replay")) {
+			try {
+				MoveReplay replay = MoveReplay.read(Paths.get(args[1]));
+				panel = new MinesweeperPanel(replay.getRowMax(), replay.getColMax(), replay.getNumBombs());
+				frame.add(panel);
+				replay.play(panel, args.length >= 3 ? Double.parseDouble(args[2]) : 1);
+			} catch (IOException | IllegalArgumentException e) {
+				JOptionPane.showMessageDialog(null, e.getMessage(), "Could not replay", JOptionPane.ERROR_MESSAGE, null);
+				System.exit(0);
+			}
+		} else switch (JOptionPane.showOptionDialog(null, "Choose Dificulty", "", JOptionPane.OK_OPTION, JOptionPane.PLAIN_MESSAGE, null, new String[] {"Easy", "Medium", "Hard", "Custom", "Cancel" }, 2)) {
 		case 0:
 			panel = new MinesweeperPanel(9, 9, 10);
 			frame.add(panel);
@@ -75,9 +114,21 @@ public class Minesweeper {
 			System.exit(0);
 		}
 		
+		if (args.length >= 2 && args[0].equals("--journal")) {
+			try {
+				MinesweeperBoard board = panel.getBoard();
+				MoveJournal journal = new MoveJournal(Files.newOutputStream(Paths.get(args[1])), board);
+				Runtime.getRuntime().addShutdownHook(new Thread(journal::flush));
+				panel.getEngine().submit(played -> {
+					played.setJournal(journal);
+					played.reset();
+				});
+			} catch (IOException ioe) {
+				JOptionPane.showMessageDialog(null, ioe.getMessage(), "Could not record", JOptionPane.ERROR_MESSAGE, null);
+			}
+		}
+		
 		frame.pack();
-		frame.setSize(panel.getBoard().getColMax() * 50, (panel.getBoard().getRowMax() + 1 ) * 50);
-		frame.setResizable(false);
 		frame.setLocationRelativeTo(null);
 		frame.setVisible(true);
 		frame.addWindowListener(new WindowAdapter() {
@@ -0,0 +1,202 @@
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.SplittableRandom;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * <p>This {@code MinesweeperBenchmark} class sets up the boards that the JMH benchmarks in {@code src/jmh/java} measure.</p>
+ * <p>JMH only runs benchmarks in a named package, which cannot see the classes of {@link Minesweeper}, so each benchmark
+ * looks up one of these fixtures by name. A fixture is a {@link Supplier} whose {@link Supplier#get()} sets up one operation
+ * outside of the measurement, such as placing the bombs, and returns that operation, which does nothing else.
+ * Every operation returns a value that depends on its work, so that it cannot be optimised away.</p>
+ * <p>Run every benchmark with allocation reported by {@code mvn -B test-compile exec:exec}, or pick some with {@code -Djmh.args="floodFill -prof gc"}.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class MinesweeperBenchmark {
+	/**
+	 * The seed of every board.
+	 */
+	private static final long SEED = 0x5EEDL;
+	
+	/**
+	 * The width and height in pixels of the region painted by {@link #paint(int, int)}.
+	 */
+	private static final int VIEWPORT = 800;
+	
+	/**
+	 * {@code MinesweeperBenchmark} only has static members.
+	 */
+	private MinesweeperBenchmark() {}
+	
+	/**
+	 * Place {@code density} of the cells as bombs. Every operation is set up by clearing the board.
+	 * 
+	 * @param rowMax	is the number of rows.
+	 * @param colMax	is the number of columns.
+	 * @param density	is the fraction of cells that are bombs.
+	 * 
+	 * @return the fixture.
+	 */
+	public static Supplier<LongSupplier> place(int rowMax, int colMax, double density) {
+		MinesweeperModel model = new MinesweeperModel(rowMax, colMax);
+		SplittableRandom rand = new SplittableRandom(SEED);
+		int numBombs = (int) (rowMax * colMax * density);
+		LongSupplier op = () -> {
+			model.placeMines(rand, numBombs);
+			return model.getNumMines();
+		};
+		return () -> {
+			model.clear();
+			return op;
+		};
+	}
+	
+	/**
+	 * Count the bombs around every cell of a board of which a fifth of the cells are bombs, placed once.
+	 * 
+	 * @param rowMax is the number of rows.
+	 * @param colMax is the number of columns.
+	 * 
+	 * @return the fixture.
+	 */
+	public static Supplier<LongSupplier> count(int rowMax, int colMax) {
+		MinesweeperModel model = new MinesweeperModel(rowMax, colMax);
+		model.placeMines(new SplittableRandom(SEED), rowMax * colMax / 5);
+		LongSupplier op = () -> {
+			model.count();
+			return model.getCount(0);
+		};
+		return () -> op;
+	}
+	
+	/**
+	 * Reveal the center of a board with one bomb, which reveals almost every cell.
+	 * Every operation is set up by clearing the board and placing the bomb away from the center.
+	 * 
+	 * @param rowMax is the number of rows.
+	 * @param colMax is the number of columns.
+	 * 
+	 * @return the fixture.
+	 */
+	public static Supplier<LongSupplier> floodFill(int rowMax, int colMax) {
+		MinesweeperModel model = new MinesweeperModel(rowMax, colMax);
+		SplittableRandom rand = new SplittableRandom(SEED);
+		int center = rowMax / 2 * colMax + colMax / 2;
+		LongSupplier op = () -> model.reveal(center);
+		return () -> {
+			model.clear();
+			model.placeMines(rand, 1, center);
+			return op;
+		};
+	}
+	
+	/**
+	 * Solve a game of {@code numBombs} bombs. Every operation is set up by starting a new game and revealing its center,
+	 * which places the bombs.
+	 * 
+	 * @param rowMax	is the number of rows.
+	 * @param colMax	is the number of columns.
+	 * @param numBombs	is the number of bombs.
+	 * 
+	 * @return the fixture.
+	 */
+	public static Supplier<LongSupplier> solve(int rowMax, int colMax, int numBombs) {
+		MinesweeperBoard board = new MinesweeperBoard(rowMax, colMax, numBombs, SEED);
+		MinesweeperSolver solver = new MinesweeperSolver(board);
+		LongSupplier op = () -> {
+			solver.solve();
+			return board.getNumReveal();
+		};
+		return () -> {
+			board.reset();
+			solver.reset();
+			board.reveal(rowMax / 2, colMax / 2);
+			return op;
+		};
+	}
+	
+	/**
+	 * Replay a {@link MoveJournal} of {@code games} games of {@code numBombs} bombs played by {@link MinesweeperSolver},
+	 * which is recorded once. Every event is played on the same headless board, since the journal starts with a new game.
+	 * 
+	 * @param rowMax	is the number of rows.
+	 * @param colMax	is the number of columns.
+	 * @param numBombs	is the number of bombs.
+	 * @param games		is the number of games recorded.
+	 * 
+	 * @return the fixture.
+	 * 
+	 * @throws IOException if the journal cannot be recorded or read.
+	 */
+	public static Supplier<LongSupplier> replay(int rowMax, int colMax, int numBombs, int games) throws IOException {
+		MinesweeperBoard board = new MinesweeperBoard(rowMax, colMax, numBombs, SEED);
+		MinesweeperSolver solver = new MinesweeperSolver(board);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (MoveJournal journal = new MoveJournal(out, board)) {
+			board.setJournal(journal);
+			for (int i = 0; i < games; i++) {
+				board.reset();
+				solver.solve(rowMax / 2, colMax / 2);
+			} board.setJournal(null);
+		}
+		
+		MoveReplay replay = new MoveReplay(new ByteArrayInputStream(out.toByteArray()));
+		MinesweeperBoard target = new MinesweeperBoard(rowMax, colMax, numBombs);
+		LongSupplier op = () -> {
+			replay.replay(target);
+			return target.getNumReveal();
+		};
+		return () -> op;
+	}
+	
+	/**
+	 * Paint the middle of a {@link BoardView} whose center was revealed and every other bomb flagged, into an image.<br>
+	 * The moves are played by the engine of a {@link MinesweeperPanel} once, and painting starts after they were published
+	 * on the event dispatch thread. Nothing changes the panel after that, so the benchmark thread paints it.
+	 * 
+	 * @param rowMax is the number of rows.
+	 * @param colMax is the number of columns.
+	 * 
+	 * @return the fixture.
+	 * 
+	 * @throws InterruptedException			if waiting for the event dispatch thread is interrupted.
+	 * @throws InvocationTargetException	if the panel cannot be created on the event dispatch thread.
+	 */
+	public static Supplier<LongSupplier> paint(int rowMax, int colMax) throws InterruptedException, InvocationTargetException {
+		MinesweeperPanel[] panel = new MinesweeperPanel[1];
+		SwingUtilities.invokeAndWait(() -> panel[0] = new MinesweeperPanel(rowMax, colMax, rowMax * colMax / 5));
+		int center = rowMax / 2 * colMax + colMax / 2;
+		panel[0].getEngine().submit(board -> {
+			board.reveal(rowMax / 2, colMax / 2);
+			MinesweeperModel model = board.getModel();
+			for (int i = 0; i < model.getNumMines(); i += 2) board.flag(model.getMine(i) / colMax, model.getMine(i) % colMax);
+		});
+		
+		boolean[] isPublished = {false};
+		while (!isPublished[0]) SwingUtilities.invokeAndWait(() -> isPublished[0] = panel[0].getCells() != null && (panel[0].getCells()[center] & MinesweeperModel.REVEALED) != 0);
+		
+		BoardView view = panel[0].getView();
+		SwingUtilities.invokeAndWait(() -> view.setSize(view.getPreferredSize()));
+		int width = Math.min(VIEWPORT, view.getWidth()), height = Math.min(VIEWPORT, view.getHeight());
+		int x = (view.getWidth() - width) / 2, y = (view.getHeight() - height) / 2;
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		LongSupplier op = () -> {
+			Graphics2D g = image.createGraphics();
+			g.translate(-x, -y);
+			g.setClip(x, y, width, height);
+			view.paint(g);
+			g.dispose();
+			return image.getRGB(0, 0);
+		};
+		return () -> op;
+	}
+}
\ No newline at end of file
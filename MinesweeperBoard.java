@@ -1,58 +1,19 @@
-import java.awt.Color;
-import java.util.Arrays;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.util.Objects;
-import java.util.Random;
-import java.util.Timer;
-import java.util.TimerTask;
-
-import javax.swing.BorderFactory;
-import javax.swing.ImageIcon;
-import javax.swing.JOptionPane;
-import javax.swing.JTextArea;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * <p>This {@code MinesweeperBoard} class is the Minesweeper Board.</p>
+ * <p>A board never touches AWT or Swing, and must only be changed by one thread at a time.
+ * The board of a {@link MinesweeperPanel} is played on the thread of its {@link GameEngine}.</p>
  * 
  * @version 3 April 2020
  * @author MrPineapple065
  */
 public class MinesweeperBoard {
-	/**
-	 * This {@code MTimer} class is a private class that handles the {@link Timer}.
-	 * 
-	 * @version 18 March 2020
-	 * @author MrPineapple065
-	 */
-	private class MTimer extends Timer {
-		/**
-		 * The amount of seconds that have elapsed since the start of the timer.
-		 */
-		public int time;
-		
-		/**
-		 * A boolean determining if this is running.
-		 */
-		public boolean isRunning;
-		
-		/**
-		 * Create a {@code Mtimer} with {@code name}
-		 * 
-		 * @param  name the name of the associated thread
-		 * 
-		 * @throws NullPointerException if {@link Timer#Timer(String)} throws
-		 */
-		public MTimer(String name) throws NullPointerException {
-			super(name);
-			this.time = 0;
-			this.isRunning = false;
-		}
-	}
-	
-	/**
-	 * {@link Random}
-	 */
-	public static final Random rand = new Random();
-	
 	/**
 	 * The maximum number of rows.
 	 */
@@ -69,24 +30,49 @@ public class MinesweeperBoard {
 	private final int numBombs;
 	
 	/**
-	 * The number of {@link Tile} that can be revealed
+	 * The number of cells that can be revealed
 	 */
 	private final int revealableTile;
 	
 	/**
-	 * The {@link MinesweeperPanel} holding this.
+	 * The {@link RandomGenerator} choosing the seed of every game of this board only.
+	 */
+	private final RandomGenerator rand;
+	
+	/**
+	 * The {@link MinesweeperModel} holding the state of every cell.
+	 */
+	private final MinesweeperModel model;
+	
+	/**
+	 * The {@link GameClock} timing the current game.
+	 */
+	private final GameClock clock = new GameClock();
+	
+	/**
+	 * The {@link NoGuessGenerator} placing the bombs, or {@code null} if a game may need guessing.
+	 */
+	private NoGuessGenerator noGuess;
+	
+	/**
+	 * The {@link MoveJournal} recording every move, or {@code null}.
+	 */
+	private MoveJournal journal;
+	
+	/**
+	 * The seed placing the bombs of the current game.
 	 */
-	private final MinesweeperPanel panel;
+	private long seed;
 	
 	/**
-	 * An 2D {@code Array} of {@link Tile}
+	 * The seed the bombs of the current game are placed from instead of searching, see {@link #setPlacement(long)}.
 	 */
-	private final Tile[][] board;
+	private long placement;
 	
 	/**
-	 * {@link MTimer}
+	 * A boolean determining if {@link #placement} is set.
 	 */
-	public MTimer timer = new MTimer("");
+	private boolean isPlacement;
 	
 	/**
 	 * A boolean determining if the game is over.
@@ -94,9 +80,15 @@ public class MinesweeperBoard {
 	private boolean isGameOver;
 	
 	/**
-	 * The number of {@link Tile} that are revealed
+	 * A boolean determining if the bombs have been placed.<br>
+	 * Bombs are placed on the first reveal, so that the first cell revealed is never a bomb.
 	 */
-	private int numReveal;
+	private boolean isGenerated;
+	
+	/**
+	 * The index of the bomb that ended the game, or -1.
+	 */
+	private int exploded;
 	
 	/**
 	 * The number of bombs left to flag. <br>
@@ -107,82 +99,106 @@ public class MinesweeperBoard {
 	/**
 	 * Creates a {@code MinesweeperBoard} initialising all atributes.
 	 * 
-	 * @param panel		is the {@link MinesweeperPanel}
 	 * @param rowMax	is the maximum number of rows.
 	 * @param colMax	is the maximum number of columns.
 	 * @param numBombs	is the number of bombs on the board.
 	 * 
 	 * @throws IndexOutOfBoundsException	if {@code rowMax} is less than 3 or {@code colMax} is less than 3.
-	 * @throws IllegalArgumentException		if {@code panel} is {@code null} or is {@code numBombs} is greater ({@code rowMax} * {@code colMax} - 1) or less than 1.
-	 */
-	public MinesweeperBoard(MinesweeperPanel panel, int rowMax, int colMax, int numBombs) throws IndexOutOfBoundsException, IllegalArgumentException {
-		this.panel = Objects.requireNonNull(panel, "MinesweeperBoard must be on MinesweeperPanel");
-		if (rowMax < 3)	throw new IndexOutOfBoundsException("Illegal maximum number of rows: " + rowMax);
-		else			this.rowMax = rowMax;
-		if (colMax < 3)	throw new IndexOutOfBoundsException("Illegal maximun number of columns: " + colMax);
-		else			this.colMax = rowMax;
-		if (numBombs > this.rowMax * this.colMax - 1 || numBombs < 1)
-			throw new IllegalArgumentException("Illegal number of bombs: " + numBombs);
-		else	this.numBombs = numBombs;
-		
-		this.revealableTile = (this.rowMax * this.colMax) - this.numBombs;
-		this.board = new Tile[this.rowMax][this.colMax];
-		
-		this.createBoard();
-		this.reset();
+	 * @throws IllegalArgumentException		if {@code numBombs} is greater ({@code rowMax} * {@code colMax} - 1) or less than 1.
+	 */
+	public MinesweeperBoard(int rowMax, int colMax, int numBombs) throws IndexOutOfBoundsException, IllegalArgumentException {
+		this(rowMax, colMax, numBombs, new SplittableRandom());
 	}
 	
 	/**
-	 * Checks if the game is won.
+	 * Creates a {@code MinesweeperBoard} whose bombs are placed from {@code seed}.<br>
+	 * Two boards with the same size, {@code seed} and sequence of moves play out exactly the same.
+	 * 
+	 * @param rowMax	is the maximum number of rows.
+	 * @param colMax	is the maximum number of columns.
+	 * @param numBombs	is the number of bombs on the board.
+	 * @param seed		is the seed of the {@link SplittableRandom} choosing the seed of every game.
+	 * 
+	 * @throws IndexOutOfBoundsException	if {@code rowMax} is less than 3 or {@code colMax} is less than 3.
+	 * @throws IllegalArgumentException		if {@code numBombs} is greater ({@code rowMax} * {@code colMax} - 1) or less than 1.
 	 */
-	private void checkGameOver() {
-		if (this.isGameOver) return;
-		if (this.revealableTile != this.numReveal) return;
-		if (this.timer.isRunning) this.setTimer();
-		JTextArea jta = new JTextArea("You Win!\n" + this.panel.getTimeLabel().getText());
-		jta.setOpaque(false);
-		JOptionPane.showMessageDialog(null, jta, "Congradulations!", JOptionPane.PLAIN_MESSAGE, null);
-		this.setGameOver(true);
+	public MinesweeperBoard(int rowMax, int colMax, int numBombs, long seed) throws IndexOutOfBoundsException, IllegalArgumentException {
+		this(rowMax, colMax, numBombs, new SplittableRandom(seed));
 	}
 	
 	/**
-	 * Count the number of bombs directly surrounding a tile.
+	 * Creates a {@code MinesweeperBoard} initialising all atributes.
 	 * 
-	 * @param tile is the center tile
+	 * @param rowMax	is the maximum number of rows.
+	 * @param colMax	is the maximum number of columns.
+	 * @param numBombs	is the number of bombs on the board.
+	 * @param rand		is the {@link RandomGenerator} placing the bombs. It should not be shared with another thread.
 	 * 
-	 * @return the number of bombs directly surrounding {@code tile}.
-	 */
-	private int count(Tile tile) {
-		int count = 0;
+	 * @throws IndexOutOfBoundsException	if {@code rowMax} is less than 3 or {@code colMax} is less than 3.
+	 * @throws IllegalArgumentException		if {@code numBombs} is greater ({@code rowMax} * {@code colMax} - 1) or less than 1.
+	 * @throws NullPointerException			if {@code rand} is {@code null}.
+	 */
+	public MinesweeperBoard(int rowMax, int colMax, int numBombs, RandomGenerator rand) throws IndexOutOfBoundsException, IllegalArgumentException, NullPointerException {
+		this.rand = Objects.requireNonNull(rand, "MinesweeperBoard must have a RandomGenerator");
+		validate(rowMax, colMax, numBombs);
+		this.rowMax = rowMax;
+		this.colMax = colMax;
+		this.numBombs = numBombs;
+		this.model = new MinesweeperModel(this.rowMax, this.colMax);
 		
-		for (int i = tile.getRow() - 1; i < tile.getRow() + 2; i++) {
-			for (int j = tile.getCol() - 1; j < tile.getCol() + 2; j++) {
-				try {
-					count += this.board[i][j].isBomb() ? 1 : 0;
-				} catch (ArrayIndexOutOfBoundsException aioobe) {
-					continue;
-				}
-			}
-		} return tile.setCount(count);
+		this.revealableTile = this.model.size() - this.numBombs;
+		this.reset();
 	}
 	
 	/**
-	 * Place all {@link Tile} into {@link #board}
+	 * Chord the cell at ({@code row}, {@code col}): if it is revealed and as many of its neighbours are flagged as it counts,
+	 * every other neighbour is revealed at once, along with the empty regions around them.<br>
+	 * The cells are revealed in one pass, as one range of {@link MinesweeperModel#getRevealed(int)}, and checked for a win once.
+	 * If a neighbour left unflagged is a bomb, the game is lost on it.
+	 * 
+	 * @param row is the row of the cell.
+	 * @param col is the column of the cell.
 	 */
-	private void createBoard() {
-		for (int i = 0; i < this.board.length; i++) {
-			for (int j = 0; j < this.board[i].length; j++) {
-				this.board[i][j] = new Tile(this.panel, i, j);
+	public void chord(int row, int col) {
+		int index = this.model.index(row, col);
+		if (!this.model.isRevealed(index))	return;
+		if (this.isGameOver)				return;
+		
+		int rowEnd = Math.min(row + 1, this.rowMax - 1), colEnd = Math.min(col + 1, this.colMax - 1);
+		int flags = 0, hidden = 0, bomb = -1;
+		for (int i = Math.max(row - 1, 0); i <= rowEnd; i++) {
+			for (int j = Math.max(col - 1, 0); j <= colEnd; j++) {
+				int neighbour = i * this.colMax + j;
+				if (this.model.isFlagged(neighbour))		flags++;
+				else if (!this.model.isRevealed(neighbour))	hidden++;
+				else										continue;
+				if (bomb < 0 && !this.model.isFlagged(neighbour) && this.model.isMine(neighbour)) bomb = neighbour;
 			}
 		}
+		
+		if (flags != this.model.getCount(index) || hidden == 0) return;
+		if (this.journal != null) this.journal.chord(index);
+		if (bomb >= 0) {
+			this.explode(bomb);
+			return;
+		} this.startClock();
+		
+		long start = EngineMetrics.start();
+		int from = this.model.getNumRevealed();
+		this.model.chord(index);
+		
+		this.checkGameOver();
+		EngineMetrics.stop(EngineMetrics.CHORD, start, this.model.getNumRevealed() - from);
 	}
 	
 	/**
-	 * Decrement the number of flags.
+	 * Checks if the game is won.
 	 */
-	public void decFlagCount() {
-		this.numFlag--;
-		this.panel.updateBLabel();
+	private void checkGameOver() {
+		if (this.isGameOver) return;
+		if (this.revealableTile != this.model.getNumRevealed()) return;
+		this.stopClock();
+		this.setGameOver(true);
 	}
 	
 	@Override
@@ -190,28 +206,70 @@ public class MinesweeperBoard {
 		if (this == obj)							return true;
 		if (!(obj instanceof MinesweeperBoard))		return false;
 		MinesweeperBoard other = (MinesweeperBoard) obj;
-		if (!Arrays.deepEquals(board, other.board))	return false;
 		if (colMax != other.colMax)					return false;
+		if (exploded != other.exploded)				return false;
 		if (isGameOver != other.isGameOver)			return false;
 		if (numBombs != other.numBombs)				return false;
-		if (numFlag != other.numFlag)				return false;
-		if (numReveal != other.numReveal) 			return false;
-		if (panel == null) if (other.panel != null)	return false;
-		else if (!panel.equals(other.panel))		return false;
-		if (revealableTile != other.revealableTile)	return false;
 		if (rowMax != other.rowMax)					return false;
-		if (timer == null) if (other.timer != null)	return false;
-		else if (!timer.equals(other.timer))		return false;
-		return true;
+		return model.equals(other.model);
+	}
+	
+	/**
+	 * Lose the game on the bomb {@code index}.
+	 * 
+	 * @param index is the bomb revealed.
+	 */
+	private void explode(int index) {
+		this.exploded = index;
+		this.isGameOver = true;
+		this.stopClock();
+	}
+	
+	/**
+	 * Place the bombs, keeping {@code safe} and if possible every cell around it free of bombs.
+	 * 
+	 * @param safe is the index of the first cell revealed.
+	 */
+	private void generate(int safe) {
+		int row = safe / this.colMax, col = safe % this.colMax;
+		int rowStart = Math.max(row - 1, 0), rowEnd = Math.min(row + 1, this.rowMax - 1);
+		int colStart = Math.max(col - 1, 0), colEnd = Math.min(col + 1, this.colMax - 1);
+		int size = (rowEnd - rowStart + 1) * (colEnd - colStart + 1);
+		
+		long placement = this.seed;
+		if (this.isPlacement) {
+			placement = this.placement;
+		} else if (this.noGuess != null) {
+			try {
+				placement = this.noGuess.generate(row, col, this.seed);
+			} catch (IllegalStateException ise) {
+				//The board is too dense to avoid guessing, so the bombs are placed as usual.
+			}
+		}
+		
+		//The search is not played again on replay, so the seed it found is recorded.
+		if (this.noGuess != null && this.journal != null) this.journal.place(placement);
+		RandomGenerator rand = new SplittableRandom(placement);
+		
+		if (this.numBombs > this.model.size() - size) {
+			this.model.placeMines(rand, this.numBombs, safe);
+		} else {
+			int[] excluded = new int[size];
+			for (int i = rowStart, k = 0; i <= rowEnd; i++) {
+				for (int j = colStart; j <= colEnd; j++) {
+					excluded[k++] = i * this.colMax + j;
+				}
+			} this.model.placeMines(rand, this.numBombs, excluded);
+		} this.isGenerated = true;
 	}
 	
 	/**
-	 * Returns {@link #board}
+	 * Returns {@link #clock}
 	 * 
-	 * @return {@code board}.
+	 * @return {@code clock}.
 	 */
-	public Tile[][] getBoard() {
-		return this.board;
+	public GameClock getClock() {
+		return this.clock;
 	}
 	
 	/**
@@ -224,7 +282,16 @@ public class MinesweeperBoard {
 	}
 	
 	/**
-	 * Determine the number of {@link Tile} that have been flagged.
+	 * Determine the index of the bomb that ended the game.
+	 * 
+	 * @return {@link #exploded}, or -1 if the game has not been lost.
+	 */
+	public int getExploded() {
+		return this.exploded;
+	}
+	
+	/**
+	 * Determine the number of bombs left to flag.
 	 * 
 	 * @return {@link #numFlag}
 	 */
@@ -242,16 +309,43 @@ public class MinesweeperBoard {
 	}
 	
 	/**
-	 * Determine the number of {@link Tile} that have been revealed.
+	 * Returns {@link #journal}
 	 * 
-	 * @return {@link #numReveal}
+	 * @return {@code journal}, or {@code null} if no game is recorded.
+	 */
+	MoveJournal getJournal() {
+		return this.journal;
+	}
+	
+	/**
+	 * Returns {@link #model}
+	 * 
+	 * @return {@code model}.
+	 */
+	public MinesweeperModel getModel() {
+		return this.model;
+	}
+	
+	/**
+	 * Determine the number of bombs on the board.
+	 * 
+	 * @return {@link #numBombs}
+	 */
+	public int getNumBombs() {
+		return this.numBombs;
+	}
+	
+	/**
+	 * Determine the number of cells that have been revealed.
+	 * 
+	 * @return {@link MinesweeperModel#getNumRevealed()}
 	 */
 	public int getNumReveal() {
-		return this.numReveal;
+		return this.model.getNumRevealed();
 	}
 	
 	/**
-	 * Determine the number of {@link Tile} that can be revealed.
+	 * Determine the number of cells that can be revealed.
 	 * 
 	 * @return {@link #revealableTile}
 	 */
@@ -260,115 +354,137 @@ public class MinesweeperBoard {
 	}
 	
 	/**
-	 * Determine the maximum number of rows.
+	 * Determine the seed of the current game.
 	 * 
-	 * @return {@link #rowMax}
+	 * @return {@link #seed}
+	 * 
+	 * @see #reset(long)
 	 */
-	public int getRowMax() {
-		return this.rowMax;
+	public long getSeed() {
+		return this.seed;
 	}
 	
 	/**
-	 * Returns {@link Tile} of {@link #board} located at ({@code row}, {@code col}).
+	 * Determine the maximum number of rows.
 	 * 
-	 * @param row is the row of {@code Tile}
-	 * @param col is the column of {@code Tile}
-	 * @return {@link Tile} at position ({@code row}, {@code col}).
+	 * @return {@link #rowMax}
 	 */
-	public Tile getTile(int row, int col) {
-		return this.board[row][col];
+	public int getRowMax() {
+		return this.rowMax;
 	}
 	
 	@Override
 	public int hashCode() {
 		final int prime = 0x1F;
 		int result = 0x1;
-		result = prime * result + Arrays.deepHashCode(board);
+		result = prime * result + model.hashCode();
 		result = prime * result + colMax;
+		result = prime * result + exploded;
 		result = prime * result + (isGameOver ? 0x4CF : 0x4D5);
 		result = prime * result + numBombs;
-		result = prime * result + numFlag;
-		result = prime * result + numReveal;
-		result = prime * result + ((panel == null) ? 0 : panel.hashCode());
-		result = prime * result + revealableTile;
 		result = prime * result + rowMax;
-		result = prime * result + ((timer == null) ? 0 : timer.hashCode());
 		return result;
 	}
 	
 	/**
-	 * Increment the number of flags.
+	 * Determine if every game can be cleared without guessing.
+	 * 
+	 * @return {@code true} if the bombs are placed by a {@link NoGuessGenerator}.
 	 */
-	public void incFlagCount() {
-		this.numFlag++;
-		this.panel.updateBLabel();
+	public boolean isNoGuess() {
+		return this.noGuess != null;
+	}
+	
+	/**
+	 * Flag or unflag the cell at ({@code row}, {@code col}).<br>
+	 * Nothing happens if the cell is revealed or the game is over.
+	 * 
+	 * @param row is the row of the cell.
+	 * @param col is the column of the cell.
+	 */
+	public void flag(int row, int col) {
+		int index = this.model.index(row, col);
+		if (this.model.isRevealed(index))	return;
+		if (this.isGameOver)				return;
+		
+		if (this.journal != null)			this.journal.flag(index);
+		
+		boolean isFlagged = !this.model.isFlagged(index);
+		this.model.setFlagged(index, isFlagged);
+		this.numFlag += isFlagged ? -1 : 1;
 	}
 	
 	/**
 	 * Creates a new game.
 	 */
 	public void reset() {
-		if (this.timer.isRunning) this.setTimer();
-		
+		this.reset(this.rand.nextLong());
+	}
+	
+	/**
+	 * Creates a new game whose bombs are placed from {@code seed}.<br>
+	 * Two games with the same size, {@code seed}, no guessing mode and sequence of moves play out exactly the same.
+	 * 
+	 * @param seed is the seed of the game.
+	 */
+	public void reset(long seed) {
+		long start = EngineMetrics.start();
+		int cells = this.model.getNumRevealed() + this.model.getNumFlags() + this.model.getNumMines();
+		this.clock.reset();
 		this.isGameOver = false;
+		this.exploded = -1;
 		this.numFlag = this.numBombs;
-		this.numReveal = 0;
 		
-		for (Tile[] row : this.board) {
-			for (Tile tile : row) {
-				tile.reset();
-			}
-		} for (int i = 0; i < this.numBombs; i++) {
-			int x = rand.nextInt(this.rowMax), y = rand.nextInt(this.colMax);
-			while (this.board[x][y].isBomb()) {
-				x = rand.nextInt(this.rowMax); y = rand.nextInt(this.colMax);
-			} this.board[x][y].setBomb(true);
-		}
+		this.model.clear();
+		this.isGenerated = false;
+		this.isPlacement = false;
+		this.seed = seed;
+		if (this.journal != null) this.journal.reset(seed, this.isNoGuess());
+		EngineMetrics.stop(EngineMetrics.RESET, start, cells);
 	}
 	
 	/**
-	 * Reveal {@code tile}
+	 * Restore the game after {@link BoardSnapshot} wrote every cell of {@link #model}.<br>
+	 * The clock stays stopped until the next cell is revealed.
 	 * 
-	 * @param tile is the {@link Tile} to reveal
+	 * @param isGameOver	determines if the game is over.
+	 * @param exploded		is the index of the bomb that ended the game, or -1.
+	 * @param elapsed		is the time played in nanoseconds.
 	 */
-	public void reveal(Tile tile) {
-		if (tile.isFlagged())	return;
-		if (tile.isRevealed())	return;
-		if (this.isGameOver)	return;
+	void restore(boolean isGameOver, int exploded, long elapsed) {
+		this.isGameOver = isGameOver;
+		this.exploded = exploded;
+		this.isGenerated = this.model.getNumMines() != 0;
+		this.numFlag = this.numBombs - this.model.getNumFlags();
+		this.clock.reset(elapsed);
+	}
+	
+	/**
+	 * Reveal the cell at ({@code row}, {@code col}).<br>
+	 * If no bombs surround it, the whole empty region around it is revealed as well.
+	 * 
+	 * @param row is the row of the cell.
+	 * @param col is the column of the cell.
+	 */
+	public void reveal(int row, int col) {
+		int index = this.model.index(row, col);
+		if (this.model.isFlagged(index))	return;
+		if (this.model.isRevealed(index))	return;
+		if (this.isGameOver)				return;
+		if (!this.isGenerated)				this.generate(index);
+		if (this.journal != null)			this.journal.reveal(index);
 		
-		if (tile.isBomb()) {
-			JOptionPane.showMessageDialog(null, "Game Over", "Game Over!", JOptionPane.PLAIN_MESSAGE, null);
-			tile.setBackground(Color.RED);
-			this.revealBomb();
-			if (this.timer.isRunning) this.setTimer();
+		if (this.model.isMine(index)) {
+			this.explode(index);
 			return;
-		} if (!this.timer.isRunning) this.setTimer();
-		
-		tile.setRevealed(true);
-		tile.setBorder(BorderFactory.createLoweredBevelBorder());
-		this.updateTileReveal();
+		} this.startClock();
 		
-		if (this.count(tile) != 0) tile.setIcon(Tile.numbers[tile.getCount()]);
-		else this.specialReveal(tile);
+		long start = EngineMetrics.start();
+		int from = this.model.getNumRevealed();
+		this.model.reveal(index);
 		
 		this.checkGameOver();
-	}
-	
-	/**
-	 * Reveals the locations of all bombs on {@link #board}
-	 */
-	private void revealBomb() {
-		this.isGameOver = true;
-		this.panel.m.gameOver();
-		ImageIcon bombIcon	= Tile.bomb;
-		ImageIcon inc		= Tile.incorrectFlag;
-		for (Tile[] row : this.board) {
-			for (Tile tile : row) {
-				if (tile.isBomb())	tile.setIcon(bombIcon);
-				if (tile.isFlagged() && !tile.isBomb()) tile.setIcon(inc);
-				else continue;
-			}
-		} return;
+		EngineMetrics.stop(EngineMetrics.REVEAL, start, this.model.getNumRevealed() - from);
 	}
 	
 	/**
@@ -381,57 +497,77 @@ public class MinesweeperBoard {
 	}
 	
 	/**
-	 * Create {@link #timer}
+	 * Record every move from the next new game on into {@code journal}.
+	 * 
+	 * @param journal is the {@link MoveJournal}, or {@code null} to stop recording.
 	 */
-	private void setTimer() {
-		if (this.timer.isRunning) {
-			this.timer.isRunning = false;
-			this.timer.cancel();
-		} else {
-			this.timer = new MTimer("Timer");
-			TimerTask task = new TimerTask() {
-				@Override
-				public void run() {
-					MinesweeperBoard.this.panel.updateTLabel(++MinesweeperBoard.this.timer.time);
-				}
-			};
-			this.timer.isRunning = true;
-			this.timer.schedule(task, 0L, 0x3E8L);
-		}
+	public void setJournal(MoveJournal journal) {
+		this.journal = journal;
 	}
-
+	
 	/**
-	 * Reveal all {@link Tile} directly surrounding {@code tile}.
+	 * Place the bombs of the current game from {@code placement} when the first cell is revealed, instead of searching for a game without guessing.<br>
+	 * {@link MoveReplay} uses this to place the bombs where {@link MoveJournal#place(long)} recorded them. Nothing changes once the bombs are placed.
 	 * 
-	 * @param tile is the center tile.
+	 * @param placement is the seed the bombs are placed from.
 	 */
-	private void specialReveal(Tile tile) {
-		for (int i = tile.getRow() - 1; i < tile.getRow() + 2; i++) {
-			for (int j = tile.getCol() - 1; j < tile.getCol() + 2; j++) {
-				try {
-					if (!(tile.getRow() == i && tile.getCol() == j)) this.reveal(board[i][j]);
-				} catch (ArrayIndexOutOfBoundsException aioobe) {
-					continue;
-				}
-			}
-		}
+	void setPlacement(long placement) {
+		this.placement = placement;
+		this.isPlacement = true;
 	}
-
-	@Override
-	public String toString() {
-		String str = "";
-		for (Tile[] row : this.board) {
-			for (Tile tile : row) {
-				str += tile.getCount() + "\t";
-			} str += "\n";
-		}
-		return str;
+	
+	/**
+	 * Set whether every game from the next one on can be cleared without guessing.<br>
+	 * The bombs of such a game are placed by a {@link NoGuessGenerator} so that {@link MinesweeperSolver} can clear it from the first cell revealed.
+	 * 
+	 * @param isNoGuess is the new value.
+	 */
+	public void setNoGuess(boolean isNoGuess) {
+		if (isNoGuess == this.isNoGuess()) return;
+		this.noGuess = isNoGuess ? new NoGuessGenerator(this.rowMax, this.colMax, this.numBombs) : null;
 	}
 	
 	/**
-	 * Increment the number of {@link Tile} that have been <i>revealed</i>.
+	 * Start {@link #clock} at the first cell revealed, if it is not running.
 	 */
-	public void updateTileReveal() {
-		this.numReveal++;
+	private void startClock() {
+		if (this.clock.isRunning()) return;
+		this.clock.start();
+	}
+	
+	/**
+	 * Stop {@link #clock} at the end of a game.
+	 */
+	private void stopClock() {
+		this.clock.stop();
+	}
+	
+	/**
+	 * Check that a board of {@code rowMax} by {@code colMax} cells can hold {@code numBombs} bombs, without creating one.
+	 * 
+	 * @param rowMax	is the maximum number of rows.
+	 * @param colMax	is the maximum number of columns.
+	 * @param numBombs	is the number of bombs on the board.
+	 * 
+	 * @throws IndexOutOfBoundsException	if {@code rowMax} is less than 3 or {@code colMax} is less than 3.
+	 * @throws IllegalArgumentException		if there are more than {@link Integer#MAX_VALUE} cells,
+	 * or {@code numBombs} is greater ({@code rowMax} * {@code colMax} - 1) or less than 1.
+	 */
+	public static void validate(int rowMax, int colMax, int numBombs) throws IndexOutOfBoundsException, IllegalArgumentException {
+		if (rowMax < 3)									throw new IndexOutOfBoundsException("Illegal maximum number of rows: " + rowMax);
+		if (colMax < 3)									throw new IndexOutOfBoundsException("Illegal maximun number of columns: " + colMax);
+		if ((long) rowMax * colMax > Integer.MAX_VALUE)	throw new IllegalArgumentException("Illegal board size: " + rowMax + " x " + colMax);
+		if (numBombs > rowMax * colMax - 1 || numBombs < 1)
+			throw new IllegalArgumentException("Illegal number of bombs: " + numBombs);
+	}
+	
+	@Override
+	public String toString() {
+		StringWriter str = new StringWriter(2 * this.model.size() + this.rowMax);
+		try {
+			BoardExport.write(this, BoardExport.TEXT, str);
+		} catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		} return str.toString();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,609 @@
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * <p>This {@code MinesweeperModel} class holds the state of every cell of a {@link MinesweeperBoard}.</p>
+ * <p>Each cell is one {@code byte} in {@link #cells}: the low nibble is the number of surrounding bombs and the high bits are
+ * {@link #MINE}, {@link #REVEALED} and {@link #FLAGGED}. Cells are addressed by index ({@code row * colMax + col}).<br>
+ * This class does not use AWT or Swing, so it can be created and played without a display.</p>
+ * <p>The bombs, the flags and the revealed cells are also kept as lists of indices, so a game can be ended or cleared
+ * by touching only those cells.</p>
+ * <p>The state is also hashed the way Zobrist hashes a chess position: every bomb, revealed cell and flag has its own random key,
+ * and {@link #getHash()} is the exclusive or of the keys that are set. Setting or clearing one of them changes the hash in constant time.
+ * The keys are mixed from the index instead of being stored, so they cost no memory.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class MinesweeperModel {
+	/**
+	 * The bits of a cell holding the number of surrounding bombs.
+	 */
+	public static final byte COUNT		= 0x0F;
+	
+	/**
+	 * The bit of a cell set if it is a bomb.
+	 */
+	public static final byte MINE		= 0x10;
+	
+	/**
+	 * The bit of a cell set if it has been revealed.
+	 */
+	public static final byte REVEALED	= 0x20;
+	
+	/**
+	 * The bit of a cell set if it has been flagged.
+	 */
+	public static final byte FLAGGED	= 0x40;
+	
+	/**
+	 * The maximum number of rows.
+	 */
+	private final int rowMax;
+	
+	/**
+	 * The maximum number of columns.
+	 */
+	private final int colMax;
+	
+	/**
+	 * The state of every cell.
+	 */
+	private final byte[] cells;
+	
+	/**
+	 * The index of every revealed cell, in the order they were revealed.<br>
+	 * This is also the work queue of {@link #reveal(int)}, which appends to it.
+	 * {@link #placeMines(RandomGenerator, int, int...)} shuffles its candidate cells in here while nothing is revealed.
+	 */
+	private final int[] queue;
+	
+	/**
+	 * The number of revealed cells in {@link #queue}.
+	 */
+	private int numRevealed;
+	
+	/**
+	 * The index of every bomb.
+	 */
+	private int[] mines = new int[0x10];
+	
+	/**
+	 * The number of bombs in {@link #mines}.
+	 */
+	private int numMines;
+	
+	/**
+	 * The index of every flagged cell.
+	 */
+	private int[] flags = new int[0x10];
+	
+	/**
+	 * The number of flagged cells in {@link #flags}.
+	 */
+	private int numFlags;
+	
+	/**
+	 * The Zobrist hash of every bomb, revealed cell and flag.
+	 */
+	private long hash;
+	
+	/**
+	 * Three rows of horizontal bomb sums used by {@link #count()}.
+	 */
+	private final int[] sums;
+	
+	/**
+	 * Creates an empty {@code MinesweeperModel} of {@code rowMax} by {@code colMax} cells.
+	 * 
+	 * @param rowMax is the maximum number of rows.
+	 * @param colMax is the maximum number of columns.
+	 * 
+	 * @throws IllegalArgumentException if {@code rowMax} or {@code colMax} is less than 1, or there are more than {@link Integer#MAX_VALUE} cells.
+	 */
+	public MinesweeperModel(int rowMax, int colMax) throws IllegalArgumentException {
+		if (rowMax < 1 || colMax < 1 || (long) rowMax * colMax > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Illegal board size: " + rowMax + " x " + colMax);
+		this.rowMax = rowMax;
+		this.colMax = colMax;
+		this.cells	= new byte[rowMax * colMax];
+		this.queue	= new int[rowMax * colMax];
+		this.sums	= new int[3 * colMax];
+	}
+	
+	/**
+	 * Clear every cell.<br>
+	 * Only the revealed cells, the flagged cells and the cells around a bomb can be set, so only those are touched.
+	 */
+	public void clear() {
+		for (int i = 0; i < this.numRevealed; i++)	this.cells[this.queue[i]] = 0;
+		for (int i = 0; i < this.numFlags; i++)		this.cells[this.flags[i]] = 0;
+		for (int i = 0; i < this.numMines; i++) {
+			int row = this.mines[i] / this.colMax, col = this.mines[i] % this.colMax;
+			int rowEnd = Math.min(row + 1, this.rowMax - 1), colEnd = Math.min(col + 1, this.colMax - 1);
+			
+			for (int j = Math.max(row - 1, 0); j <= rowEnd; j++) {
+				for (int k = Math.max(col - 1, 0); k <= colEnd; k++) {
+					this.cells[j * this.colMax + k] = 0;
+				}
+			}
+		} this.numRevealed = this.numMines = this.numFlags = 0;
+		this.hash = 0L;
+	}
+	
+	/**
+	 * Copy the state of every cell into {@code dst}, in the format of {@link #cells}.
+	 * 
+	 * @param dst		is where to copy.
+	 * @param offset	is where the first cell goes.
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code dst} is too small.
+	 */
+	public void copyTo(byte[] dst, int offset) throws IndexOutOfBoundsException {
+		System.arraycopy(this.cells, 0, dst, offset, this.cells.length);
+	}
+	
+	/**
+	 * Count the number of bombs directly surrounding every cell and store it.<br>
+	 * This is one pass over the board: each row is summed horizontally once, and each count is the sum of three of those rows.
+	 * The count of a bomb includes itself.
+	 */
+	public void count() {
+		long start = EngineMetrics.start();
+		int prev = 0, cur = this.colMax, next = 2 * this.colMax;
+		Arrays.fill(this.sums, prev, cur, 0);
+		this.sumRow(0, cur);
+		this.sumRow(1, next);
+		
+		for (int i = 0; i < this.rowMax; i++) {
+			int offset = i * this.colMax;
+			for (int j = 0; j < this.colMax; j++) {
+				int count = this.sums[prev + j] + this.sums[cur + j] + this.sums[next + j];
+				this.cells[offset + j] = (byte) ((this.cells[offset + j] & ~COUNT) | count);
+			}
+			
+			int free = prev;
+			prev = cur; cur = next; next = free;
+			this.sumRow(i + 2, next);
+		} EngineMetrics.stop(EngineMetrics.COUNT, start, this.cells.length);
+	}
+	
+	/**
+	 * Determine if every stored count is the number of bombs directly surrounding its cell, summing the rows as {@link #count()} does.
+	 * 
+	 * @return {@code true} if no count differs from the bombs.
+	 */
+	boolean isCounted() {
+		int prev = 0, cur = this.colMax, next = 2 * this.colMax;
+		Arrays.fill(this.sums, prev, cur, 0);
+		this.sumRow(0, cur);
+		this.sumRow(1, next);
+		
+		for (int i = 0; i < this.rowMax; i++) {
+			int offset = i * this.colMax;
+			for (int j = 0; j < this.colMax; j++) {
+				if ((this.cells[offset + j] & COUNT) != this.sums[prev + j] + this.sums[cur + j] + this.sums[next + j]) return false;
+			}
+			
+			int free = prev;
+			prev = cur; cur = next; next = free;
+			this.sumRow(i + 2, next);
+		} return true;
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)							return true;
+		if (!(obj instanceof MinesweeperModel))		return false;
+		MinesweeperModel other = (MinesweeperModel) obj;
+		if (colMax != other.colMax)					return false;
+		if (rowMax != other.rowMax)					return false;
+		if (hash != other.hash)						return false;
+		return Arrays.equals(cells, other.cells);
+	}
+	
+	/**
+	 * Returns {@link #cells} to {@link BoardSnapshot}, which reads and writes every cell at once.<br>
+	 * {@link #restore()} must be called after it is written.
+	 * 
+	 * @return {@code cells}.
+	 */
+	byte[] getCells() {
+		return this.cells;
+	}
+	
+	/**
+	 * Determine the maximum number of columns.
+	 * 
+	 * @return {@link #colMax}
+	 */
+	public int getColMax() {
+		return this.colMax;
+	}
+	
+	/**
+	 * Remove {@code value} from the first {@code size} elements of {@code array}, moving the last one into its place.
+	 * 
+	 * @param array	is the list.
+	 * @param size	is the number of elements in the list.
+	 * @param value	is the element to remove.
+	 * 
+	 * @return the new number of elements.
+	 */
+	private static int remove(int[] array, int size, int value) {
+		for (int i = 0; i < size; i++) {
+			if (array[i] != value) continue;
+			array[i] = array[--size];
+			break;
+		} return size;
+	}
+	
+	/**
+	 * Determine the number of bombs surrounding a cell.
+	 * 
+	 * @param index is the cell.
+	 * 
+	 * @return the number of bombs surrounding {@code index}.
+	 */
+	public int getCount(int index) {
+		return this.cells[index] & COUNT;
+	}
+	
+	/**
+	 * Determine the {@code i}-th flagged cell.
+	 * 
+	 * @param i is less than {@link #getNumFlags()}.
+	 * 
+	 * @return the index of the cell.
+	 */
+	public int getFlag(int i) {
+		return this.flags[i];
+	}
+	
+	/**
+	 * Determine the {@code i}-th bomb.
+	 * 
+	 * @param i is less than {@link #getNumMines()}.
+	 * 
+	 * @return the index of the cell.
+	 */
+	public int getMine(int i) {
+		return this.mines[i];
+	}
+	
+	/**
+	 * Determine the number of flagged cells.
+	 * 
+	 * @return {@link #numFlags}
+	 */
+	public int getNumFlags() {
+		return this.numFlags;
+	}
+	
+	/**
+	 * Determine the number of bombs.
+	 * 
+	 * @return {@link #numMines}
+	 */
+	public int getNumMines() {
+		return this.numMines;
+	}
+	
+	/**
+	 * Determine the number of revealed cells.
+	 * 
+	 * @return {@link #numRevealed}
+	 */
+	public int getNumRevealed() {
+		return this.numRevealed;
+	}
+	
+	/**
+	 * Determine which cell was revealed {@code i}-th.<br>
+	 * The cells revealed by one call to {@link #reveal(int)} are next to each other.
+	 * 
+	 * @param i is less than {@link #getNumRevealed()}.
+	 * 
+	 * @return the index of the cell.
+	 */
+	public int getRevealed(int i) {
+		return this.queue[i];
+	}
+	
+	/**
+	 * Determine the maximum number of rows.
+	 * 
+	 * @return {@link #rowMax}
+	 */
+	public int getRowMax() {
+		return this.rowMax;
+	}
+	
+	/**
+	 * Determine the Zobrist hash of every bomb, revealed cell and flag.<br>
+	 * Two models in the same state have the same hash, whatever order the state was reached in.
+	 * 
+	 * @return {@link #hash}
+	 */
+	public long getHash() {
+		return this.hash;
+	}
+	
+	@Override
+	public int hashCode() {
+		final int prime = 0x1F;
+		int result = 0x1;
+		result = prime * result + Long.hashCode(hash);
+		result = prime * result + colMax;
+		result = prime * result + rowMax;
+		return result;
+	}
+	
+	/**
+	 * Determine the Zobrist key of {@code bit} of the cell {@code index}, by mixing them with the finalizer of {@link java.util.SplittableRandom}.
+	 * 
+	 * @param index	is the cell.
+	 * @param bit	is {@link #MINE}, {@link #REVEALED} or {@link #FLAGGED}.
+	 * 
+	 * @return the key.
+	 */
+	private static long key(int index, byte bit) {
+		long z = ((long) index << 3 | bit >> 4) * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+	
+	/**
+	 * Determine the index of the cell at ({@code row}, {@code col}).
+	 * 
+	 * @param row is the row of the cell.
+	 * @param col is the column of the cell.
+	 * 
+	 * @return {@code row * colMax + col}
+	 * 
+	 * @throws IndexOutOfBoundsException if ({@code row}, {@code col}) is not on the board.
+	 */
+	public int index(int row, int col) throws IndexOutOfBoundsException {
+		if (row < 0 || row >= this.rowMax || col < 0 || col >= this.colMax)
+			throw new IndexOutOfBoundsException("Illegal cell: (" + row + ", " + col + ")");
+		return row * this.colMax + col;
+	}
+	
+	/**
+	 * @param index is the cell.
+	 * 
+	 * @return {@code true} if {@code index} has been flagged.
+	 */
+	public boolean isFlagged(int index) {
+		return (this.cells[index] & FLAGGED) != 0;
+	}
+	
+	/**
+	 * @param index is the cell.
+	 * 
+	 * @return {@code true} if {@code index} is a bomb.
+	 */
+	public boolean isMine(int index) {
+		return (this.cells[index] & MINE) != 0;
+	}
+	
+	/**
+	 * @param index is the cell.
+	 * 
+	 * @return {@code true} if {@code index} has been revealed.
+	 */
+	public boolean isRevealed(int index) {
+		return (this.cells[index] & REVEALED) != 0;
+	}
+	
+	/**
+	 * Place exactly {@code numBombs} bombs on cells that are not already bombs and are not {@code excluded}, then {@link #count()} the board.<br>
+	 * The cells are picked with a partial Fisher-Yates shuffle of the candidate cells, so the cost does not depend on how dense the board is.
+	 * 
+	 * @param rand		is the {@link RandomGenerator} choosing the cells.
+	 * @param numBombs	is the number of bombs to place.
+	 * @param excluded	are the cells that must not be bombs.
+	 * 
+	 * @throws IllegalArgumentException if there are fewer than {@code numBombs} candidate cells.
+	 * @throws IllegalStateException	if a cell has been revealed.
+	 */
+	public void placeMines(RandomGenerator rand, int numBombs, int... excluded) throws IllegalArgumentException, IllegalStateException {
+		if (this.numRevealed != 0) throw new IllegalStateException("Bombs must be placed before any cell is revealed");
+		//Nothing is revealed yet, so the excluded cells are marked with REVEALED rather than MINE, which an excluded cell may already be.
+		for (int index : excluded) this.cells[index] |= REVEALED;
+		
+		int candidates = 0;
+		for (int index = 0; index < this.cells.length; index++) {
+			if ((this.cells[index] & (MINE | REVEALED)) == 0) this.queue[candidates++] = index;
+		} for (int index : excluded) this.cells[index] &= ~REVEALED;
+		
+		if (numBombs > candidates) throw new IllegalArgumentException("Illegal number of bombs: " + numBombs);
+		if (this.numMines + numBombs > this.mines.length) this.mines = Arrays.copyOf(this.mines, this.numMines + numBombs);
+		
+		for (int i = 0; i < numBombs; i++) {
+			int j = i + rand.nextInt(candidates - i);
+			int mine = this.queue[j];
+			this.queue[j] = this.queue[i];
+			this.queue[i] = mine;
+			this.cells[mine] |= MINE;
+			this.mines[this.numMines++] = mine;
+			this.hash ^= key(mine, MINE);
+		} this.count();
+	}
+	
+	/**
+	 * Rebuild the lists of revealed cells, bombs and flags after every cell, count included, was written through {@link #getCells()}.<br>
+	 * The order cells were revealed in is not kept, so they are listed in order of index.
+	 */
+	void restore() {
+		this.numRevealed = this.numMines = this.numFlags = 0;
+		this.hash = 0L;
+		for (int index = 0; index < this.cells.length; index++) {
+			byte cell = this.cells[index];
+			if ((cell & (REVEALED | MINE | FLAGGED)) == 0) continue;
+			if ((cell & REVEALED) != 0) {
+				this.queue[this.numRevealed++] = index;
+				this.hash ^= key(index, REVEALED);
+			} if ((cell & FLAGGED) != 0) {
+				if (this.numFlags == this.flags.length) this.flags = Arrays.copyOf(this.flags, 2 * this.numFlags);
+				this.flags[this.numFlags++] = index;
+				this.hash ^= key(index, FLAGGED);
+			} if ((cell & MINE) != 0) {
+				if (this.numMines == this.mines.length) this.mines = Arrays.copyOf(this.mines, 2 * this.numMines);
+				this.mines[this.numMines++] = index;
+				this.hash ^= key(index, MINE);
+			}
+		}
+	}
+	
+	/**
+	 * Reveal the cell {@code index}, and if no bombs surround it, the whole empty region around it along with the numbered cells bordering it.<br>
+	 * The region is walked with {@link #queue}, so each cell is visited once and the call depth stays constant.<br>
+	 * {@code index} must not be revealed, flagged or a bomb.
+	 * 
+	 * @param index is the cell to reveal.
+	 * 
+	 * @return the number of cells revealed, see {@link #getRevealed(int)}.
+	 */
+	public int reveal(int index) {
+		int start = this.numRevealed;
+		this.cells[index] |= REVEALED;
+		this.queue[start] = index;
+		this.hash ^= key(index, REVEALED);
+		return this.fill(start, start + 1);
+	}
+	
+	/**
+	 * Reveal every neighbour of {@code index} that is neither revealed nor flagged in one pass, along with the empty regions around them.<br>
+	 * The neighbours all start the walk of {@link #reveal(int)} together, so a cell shared by their regions is still visited once.<br>
+	 * None of those neighbours may be a bomb.
+	 * 
+	 * @param index is the revealed cell chorded.
+	 * 
+	 * @return the number of cells revealed, see {@link #getRevealed(int)}.
+	 */
+	public int chord(int index) {
+		int start = this.numRevealed, tail = start;
+		int row = index / this.colMax, col = index % this.colMax;
+		int rowEnd = Math.min(row + 1, this.rowMax - 1), colEnd = Math.min(col + 1, this.colMax - 1);
+		
+		for (int i = Math.max(row - 1, 0); i <= rowEnd; i++) {
+			for (int j = Math.max(col - 1, 0); j <= colEnd; j++) {
+				int neighbour = i * this.colMax + j;
+				if ((this.cells[neighbour] & (REVEALED | FLAGGED)) != 0) continue;
+				this.cells[neighbour] |= REVEALED;
+				this.queue[tail++] = neighbour;
+				this.hash ^= key(neighbour, REVEALED);
+			}
+		} return this.fill(start, tail);
+	}
+	
+	/**
+	 * Walk {@link #queue} from {@code start}, revealing every neighbour of each empty cell in it that is neither revealed nor flagged.
+	 * 
+	 * @param start	is the first cell revealed by this call, the old {@link #numRevealed}.
+	 * @param tail	is the end of the cells already revealed and queued.
+	 * 
+	 * @return the number of cells revealed since {@code start}.
+	 */
+	private int fill(int start, int tail) {
+		for (int head = start; head < tail; head++) {
+			int next = this.queue[head];
+			if (this.getCount(next) != 0) continue;
+			
+			int row = next / this.colMax, col = next % this.colMax;
+			int rowEnd = Math.min(row + 1, this.rowMax - 1), colEnd = Math.min(col + 1, this.colMax - 1);
+			
+			for (int i = Math.max(row - 1, 0); i <= rowEnd; i++) {
+				for (int j = Math.max(col - 1, 0); j <= colEnd; j++) {
+					int neighbour = i * this.colMax + j;
+					if ((this.cells[neighbour] & (REVEALED | FLAGGED)) != 0) continue;
+					this.cells[neighbour] |= REVEALED;
+					this.queue[tail++] = neighbour;
+					this.hash ^= key(neighbour, REVEALED);
+				}
+			}
+		}
+		
+		this.numRevealed = tail;
+		return tail - start;
+	}
+	
+	/**
+	 * Set whether {@code index} has been flagged.
+	 * 
+	 * @param index		is the cell.
+	 * @param isFlagged	is the new value.
+	 */
+	public void setFlagged(int index, boolean isFlagged) {
+		if (this.isFlagged(index) == isFlagged) return;
+		this.hash ^= key(index, FLAGGED);
+		if (isFlagged) {
+			this.cells[index] |= FLAGGED;
+			if (this.numFlags == this.flags.length) this.flags = Arrays.copyOf(this.flags, 2 * this.numFlags);
+			this.flags[this.numFlags++] = index;
+		} else {
+			this.cells[index] &= ~FLAGGED;
+			this.numFlags = remove(this.flags, this.numFlags, index);
+		}
+	}
+	
+	/**
+	 * Set whether {@code index} is a bomb, updating the count of every cell around it.
+	 * 
+	 * @param index		is the cell.
+	 * @param isMine	is the new value.
+	 */
+	public void setMine(int index, boolean isMine) {
+		if (this.isMine(index) == isMine) return;
+		this.hash ^= key(index, MINE);
+		if (isMine) {
+			this.cells[index] |= MINE;
+			if (this.numMines == this.mines.length) this.mines = Arrays.copyOf(this.mines, 2 * this.numMines);
+			this.mines[this.numMines++] = index;
+		} else {
+			this.cells[index] &= ~MINE;
+			this.numMines = remove(this.mines, this.numMines, index);
+		}
+		
+		int row = index / this.colMax, col = index % this.colMax, delta = isMine ? 1 : -1;
+		int rowEnd = Math.min(row + 1, this.rowMax - 1), colEnd = Math.min(col + 1, this.colMax - 1);
+		
+		for (int i = Math.max(row - 1, 0); i <= rowEnd; i++) {
+			for (int j = Math.max(col - 1, 0); j <= colEnd; j++) {
+				this.cells[i * this.colMax + j] += delta;
+			}
+		}
+	}
+	
+	/**
+	 * Store the number of bombs in each run of three cells of row {@code row} into {@link #sums}, starting at {@code offset}.<br>
+	 * Rows off the board sum to 0.
+	 * 
+	 * @param row		is the row to sum.
+	 * @param offset	is where to store the sums.
+	 */
+	private void sumRow(int row, int offset) {
+		if (row >= this.rowMax) {
+			Arrays.fill(this.sums, offset, offset + this.colMax, 0);
+			return;
+		}
+		
+		int base = row * this.colMax, left = 0, mid = (this.cells[base] >> 4) & 1;
+		for (int j = 0; j < this.colMax; j++) {
+			int right = j + 1 < this.colMax ? (this.cells[base + j + 1] >> 4) & 1 : 0;
+			this.sums[offset + j] = left + mid + right;
+			left = mid; mid = right;
+		}
+	}
+	
+	/**
+	 * Determine the number of cells.
+	 * 
+	 * @return {@code rowMax * colMax}
+	 */
+	public int size() {
+		return this.cells.length;
+	}
+}
\ No newline at end of file
@@ -1,30 +1,30 @@
+import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.GridLayout;
-import java.awt.Image;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.io.File;
-import java.io.IOException;
 import java.util.Objects;
-import java.util.function.Function;
 
-import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
+import javax.swing.Timer;
 import javax.swing.UIManager;
 
 /**
- * This {@code MinesweeperPanel} class holds all interactable and GUI elements of {@link Minesweeper}.
+ * This {@code MinesweeperPanel} class holds all interactable and GUI elements of {@link Minesweeper}.<br>
+ * Every move is played by its {@link GameEngine}, and this shows what changed once the engine is done.
+ * The board is only read through the {@link GameEngine.Batch} the engine publishes, into a copy of every cell kept on the event dispatch thread.
  * 
  * @version 3 April 2020
  * @author MrPineapple065
  */
-public class MinesweeperPanel extends JPanel {
+public class MinesweeperPanel extends JPanel implements GameEngine.Listener {
 	/**
 	 * This {@code MenuButton} class just helps create a button that opens a menu.
 	 * 
@@ -37,33 +37,20 @@ public class MinesweeperPanel extends JPanel {
 		 */
 		private static final long serialVersionUID = 0x3EEF5D22FB602996L;
 		
-		/**
-		 * A {@link Function} to convert an inputed {@link File} to a {@link ImageIcon}
-		 */
-		private static final Function<String, ImageIcon> f = str -> {
-			try {
-				return new ImageIcon(ImageIO.read(new File(str)).getScaledInstance(32, 32, Image.SCALE_SMOOTH));
-			} catch (IOException e) {
-				e.printStackTrace();
-				System.exit(0);
-				return null;
-			}
-		};
-		
 		/**
 		 * A {@link ImageIcon} holding the default {@code ImageIcon}
 		 */
-		public static final ImageIcon menuDefault 	= f.apply("menuDefault.png");
+		public static final ImageIcon menuDefault 	= new ImageIcon(SpriteCache.get(SpriteCache.MENU_DEFAULT, BoardView.ICON));
 		
 		/**
 		 * A {@link ImageIcon} holding the {@code ImageIcon} to display when {@code Mouse} is pressed.
 		 */
-		public static final ImageIcon menuClick		= f.apply("menuClick.png");
+		public static final ImageIcon menuClick		= new ImageIcon(SpriteCache.get(SpriteCache.MENU_CLICK, BoardView.ICON));
 		
 		/**
 		 * A {@link ImageIcon} holding the {@code ImageIcon} to display when the game is over.
 		 */
-		public static final ImageIcon menuGameOver	= f.apply("menuGameOver.png");
+		public static final ImageIcon menuGameOver	= new ImageIcon(SpriteCache.get(SpriteCache.MENU_GAME_OVER, BoardView.ICON));
 		
 		/**
 		 * The {@link MinesweeperPanel} holding this.
@@ -90,15 +77,15 @@ public class MinesweeperPanel extends JPanel {
 		public void actionPerformed(ActionEvent e) {
 			switch (JOptionPane.showOptionDialog(null, "Pick an option", "Menu", JOptionPane.DEFAULT_OPTION , JOptionPane.PLAIN_MESSAGE, null, new String[] {"Reset", "Quit", "Controls"}, 2)) {
 			case 0:
-				if (this.panel.board.getGameOver()) {
+				if (this.panel.getGameOver()) {
 					this.reset();
-					this.panel.board.reset();
+					this.panel.engine.reset();
 					return;
 				} else {
 					switch (JOptionPane.showConfirmDialog(null, "Are you sure you want to reset?", "", JOptionPane.YES_NO_OPTION, JOptionPane.PLAIN_MESSAGE, null)) {
 					case JOptionPane.YES_OPTION:
 						this.reset();
-						this.panel.board.reset();
+						this.panel.engine.reset();
 					default:
 						return;
 					}
@@ -111,7 +98,7 @@ public class MinesweeperPanel extends JPanel {
 					return;
 				}
 			case 2:
-				JTextArea jta = new JTextArea("Escape:\tPause\nr:\tReset\nq:\tQuit");
+				JTextArea jta = new JTextArea("Escape:\tPause\nr:\tReset\nq:\tQuit\np:\tProbabilities\nn:\tNo guessing\ns:\tSave\nl:\tLoad\nCtrl+Wheel:\tZoom");
 				jta.setOpaque(false);
 				jta.setFont(new Font("Arial", Font.PLAIN, 20));
 				JOptionPane.showMessageDialog(null, jta, "Controls", JOptionPane.PLAIN_MESSAGE, null);
@@ -153,6 +140,11 @@ public class MinesweeperPanel extends JPanel {
 	 */
 	private static final Font standardFont = new Font("Arial", Font.PLAIN, 30);
 	
+	/**
+	 * The number of milliseconds between two updates of the time label.
+	 */
+	private static final int TICK = 0x64;
+	
 	/**
 	 * {@link MenuButton}
 	 */
@@ -164,15 +156,66 @@ public class MinesweeperPanel extends JPanel {
 	private final JLabel flagLabel = new JLabel("", JLabel.CENTER);
 	
 	/**
-	 * A {@link JLabel} used to indicate {@link MinesweeperBoard#timer}
+	 * A {@link JLabel} used to indicate {@link MinesweeperBoard#getClock()}
 	 */
 	private final JLabel timeLabel = new JLabel("0", JLabel.CENTER);
 	
+	/**
+	 * The {@link BoardView} painting {@link #board}
+	 */
+	private final BoardView view;
+	
+	/**
+	 * A {@link Timer} updating {@link #timeLabel} on the event dispatch thread while a game is timed.<br>
+	 * Every Swing {@code Timer} shares one thread, and this one is reused for every game.
+	 */
+	private final Timer ticker = new Timer(TICK, e -> this.updateTLabel());
+	
 	/**
 	 * The actual {@link MinesweeperBoard}
 	 */
 	private MinesweeperBoard board;
 	
+	/**
+	 * The {@link GameEngine} playing every move on {@link #board}.
+	 */
+	private final GameEngine engine;
+	
+	/**
+	 * The value of every cell as last published by {@link #engine}, or {@code null} before the first {@link GameEngine.Batch}.
+	 */
+	private byte[] cells;
+	
+	/**
+	 * A boolean determining if the game is over, which it is until the first {@link GameEngine.Batch}.
+	 */
+	private boolean isGameOver = true;
+	
+	/**
+	 * The bomb that ended the game, or -1.
+	 */
+	private int exploded = -1;
+	
+	/**
+	 * The number of bombs left to flag.
+	 */
+	private int flags;
+	
+	/**
+	 * A boolean determining if the next game has no guessing.
+	 */
+	private boolean isNoGuess;
+	
+	/**
+	 * The probability that each cell is a bomb as last published by {@link #engine}, or {@code null} if it is not shown.
+	 */
+	private double[] probabilities;
+	
+	/**
+	 * A boolean determining if the probability that each cell is a bomb is shown.
+	 */
+	private boolean isProbabilityShown;
+	
 	/**
 	 * Create a {@link MinesweeperPanel} with {@code row} number of rows, <br>
 	 * {@code col} number of columns, <br>
@@ -182,32 +225,59 @@ public class MinesweeperPanel extends JPanel {
 	 * @param col		is the number of columns.
 	 * @param numBombs	is the number of bombs.
 	 * 
-	 * @throws	IllegalArgumentException  if construction of {@link MinesweeperBoard#MinesweeperBoard(MinesweeperPanel, int, int, int)} fails.
-	 * @throws	IndexOutOfBoundsException if construction of {@link MinesweeperBoard#MinesweeperBoard(MinesweeperPanel, int, int, int)} fails.
+	 * @throws	IllegalArgumentException  if construction of {@link MinesweeperBoard#MinesweeperBoard(int, int, int)} fails.
+	 * @throws	IndexOutOfBoundsException if construction of {@link MinesweeperBoard#MinesweeperBoard(int, int, int)} fails.
 	 */
 	public MinesweeperPanel(int row, int col, int numBombs) throws IllegalArgumentException, IndexOutOfBoundsException {
 		super();
+		this.view = new BoardView(this);
 		try {
-			this.board = new MinesweeperBoard(this, row, col, numBombs);
+			this.board = new MinesweeperBoard(row, col, numBombs);
 		} catch (IllegalArgumentException iae) {
 			throw iae;
 		} catch (IndexOutOfBoundsException ioobe) {
 			throw ioobe;
 		}
 		
-		setLayout(new GridLayout(row + 1, col));
+		setLayout(new BorderLayout());
 		
 		UIManager.put("OptionPane.messageFont", standardFont);
 		UIManager.put("OptionPane.buttonFont",	standardFont);
 		UIManager.put("Label.font",				standardFont);
 		UIManager.put("Label.background",		null);
 		UIManager.put("Label.foreground",		Color.BLACK);
+		UIManager.put("TextArea.font",			standardFont);
 		
 		this.m = new MenuButton(this);
 		
 		/**Create other GUI Elements*/
 		this.createLabels();
-		this.createTiles();
+		JScrollPane scrollPane = new JScrollPane(this.view);
+		scrollPane.setBorder(null);
+		this.add(scrollPane, BorderLayout.CENTER);
+		
+		this.engine = new GameEngine(this.board, this);
+		this.engine.start();
+	}
+	
+	@Override
+	public void changed(GameEngine.Batch batch) {
+		this.cells = batch.update(this.cells);
+		this.isGameOver = batch.getGameOver();
+		this.exploded = batch.getExploded();
+		this.flags = batch.getFlags();
+		this.isNoGuess = batch.isNoGuess();
+		
+		batch.repaint(this.view);
+		this.updateBLabel();
+		if (batch.isRunning())			this.startClock();
+		else							this.stopClock();
+		if (this.exploded >= 0)			this.m.gameOver();
+		else if (batch.isAll())			this.m.reset();
+		if (this.probabilities == batch.getProbabilities()) return;
+		this.engine.release(this.probabilities);
+		this.probabilities = batch.getProbabilities();
+		this.view.repaint();
 	}
 	
 	/**
@@ -215,31 +285,83 @@ public class MinesweeperPanel extends JPanel {
 	 */
 	private void createLabels() {
 		this.updateBLabel();
-		int colMax = this.board.getColMax();
-		for (int i = 0; i < colMax; i++) {
-			if (i == colMax/4)				this.add(this.flagLabel);
-			else if (i == colMax/2) 		this.add(m);
-			else if (i == 3 * colMax/4)		this.add(this.timeLabel);
-			else							this.add(new JLabel("", JLabel.CENTER));
-		}
+		JPanel header = new JPanel(new GridLayout(1, 5));
+		header.add(new JLabel("", JLabel.CENTER));
+		header.add(this.flagLabel);
+		header.add(this.m);
+		header.add(this.timeLabel);
+		header.add(new JLabel("", JLabel.CENTER));
+		this.add(header, BorderLayout.NORTH);
 	}
 	
 	/**
-	 * Inisialize all {@link Tile} in {@link board}
+	 * Returns {@link #board}, which only {@link #engine} may read or change once it started. Its size is safe to read from any thread.
+	 * 
+	 * @return {@code board}.
 	 */
-	private void createTiles() {
-		for (Tile[] row : this.board.getBoard()) {
-			for (Tile tile : row) {
-				this.add(tile);
-			}
-		}
+	public MinesweeperBoard getBoard() {
+		return this.board;
 	}
 	
 	/**
-	 * @return {@link #board}
+	 * Returns {@link #cells}, which is only read on the event dispatch thread.
+	 * 
+	 * @return {@code cells}, see {@link MinesweeperModel#getCells()}.
 	 */
-	public MinesweeperBoard getBoard() {
-		return this.board;
+	public byte[] getCells() {
+		return this.cells;
+	}
+	
+	/**
+	 * Returns {@link #exploded}
+	 * 
+	 * @return {@code exploded}.
+	 */
+	public int getExploded() {
+		return this.exploded;
+	}
+	
+	/**
+	 * Determine if the game is over.
+	 * 
+	 * @return {@link #isGameOver}
+	 */
+	public boolean getGameOver() {
+		return this.isGameOver;
+	}
+	
+	/**
+	 * Returns the probability that each cell is a bomb, determined by {@link #engine}.
+	 * 
+	 * @return {@link #probabilities}, or {@code null} if it is not shown.
+	 * 
+	 * @see MineProbability#compute()
+	 */
+	public double[] getProbabilities() {
+		return this.probabilities;
+	}
+	
+	/**
+	 * @return {@link #engine}
+	 */
+	public GameEngine getEngine() {
+		return this.engine;
+	}
+	
+	/**
+	 * @return {@link #view}
+	 */
+	public BoardView getView() {
+		return this.view;
+	}
+	
+	/**
+	 * Determine if the next game has no guessing.
+	 * 
+	 * @return {@link #isNoGuess}
+	 */
+	public boolean isNoGuess() {
+		return this.isNoGuess;
 	}
 	
 	/**
@@ -249,21 +371,56 @@ public class MinesweeperPanel extends JPanel {
 		return this.timeLabel;
 	}
 	
+	@Override
+	public void lost(int index) {
+		JOptionPane.showMessageDialog(null, "Game Over", "Game Over!", JOptionPane.PLAIN_MESSAGE, null);
+	}
+	
+	/**
+	 * Show or hide the probability that each cell is a bomb, once {@link #engine} determined it.
+	 */
+	public void toggleProbabilities() {
+		this.isProbabilityShown = !this.isProbabilityShown;
+		this.engine.setProbabilityShown(this.isProbabilityShown);
+	}
+	
 	/**
 	 * Updates {@link #flagLabel} to display the number of bombs left to flag.
 	 */
 	public void updateBLabel() {
-		this.flagLabel.setText(String.valueOf(this.board.getFlags()));
+		this.flagLabel.setText(this.cells == null ? "" : String.valueOf(this.flags));
 	}
 	
 	/**
-	 * Update {@link #timeLabel} to display {@code time}
-	 * 
-	 * @param time is the time to display
+	 * Start updating {@link #timeLabel}.
+	 */
+	public void startClock() {
+		this.ticker.start();
+	}
+	
+	/**
+	 * Stop updating {@link #timeLabel}, after showing the final time.
+	 */
+	public void stopClock() {
+		this.ticker.stop();
+		this.updateTLabel();
+	}
+	
+	@Override
+	public void won(long elapsed) {
+		long millis = elapsed / 1_000_000L;
+		JTextArea jta = new JTextArea(String.format("You Win!\n%d.%03d s", millis / 1000L, millis % 1000L));
+		jta.setOpaque(false);
+		JOptionPane.showMessageDialog(null, jta, "Congradulations!", JOptionPane.PLAIN_MESSAGE, null);
+	}
+	
+	/**
+	 * Update {@link #timeLabel} to display the number of seconds the game has been played.
 	 * 
-	 * @see MinesweeperBoard#timer
+	 * @see MinesweeperBoard#getClock()
 	 */
-	public void updateTLabel(int time) {
-		this.timeLabel.setText(String.valueOf(time));
+	public void updateTLabel() {
+		if (this.board == null) return;
+		this.timeLabel.setText(String.valueOf(this.board.getClock().getElapsedMillis() / 1000L));
 	}
 }
\ No newline at end of file
@@ -0,0 +1,509 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * <p>This {@code MinesweeperServer} class hosts headless {@link MinesweeperBoard} games over HTTP, with the {@link HttpServer} of the JDK.</p>
+ * <p>Every request is handled on a virtual thread where the JVM has them, and on a small pool of platform threads otherwise.
+ * A game is locked only while one of its moves is made, so any number of games are played at once.
+ * A game left alone for {@link #IDLE} milliseconds is removed.
+ * There are at most {@link #MAX_GAMES} games of {@link #MAX_CELLS} cells each, and at most {@link #MAX_TOTAL_CELLS} cells in all,
+ * so the memory of the games is bounded; a game asked for beyond that is refused with 503.
+ * A game without guessing has at most {@link #MAX_NO_GUESS_CELLS} cells, and its search gives up after a second. The endpoints are:</p>
+ * <ul>
+ * <li>{@code POST /games?rows=16&cols=30&bombs=99[&seed=s][&noGuess=true]}: create a game.</li>
+ * <li>{@code POST /games/{id}/reveal?row=r&col=c}, {@code /flag} and {@code /chord}: make a move.</li>
+ * <li>{@code GET /games/{id}}: every cell that is not hidden.</li>
+ * <li>{@code DELETE /games/{id}}: end the game.</li>
+ * </ul>
+ * <p>Every response is one JSON object such as {@code {"id":1,"state":"playing","flags":98,"cells":[35,2,36,10]}}.
+ * {@code cells} only holds the cells changed by the request, as pairs of the index of a cell and its value:
+ * 0 to 8 for a revealed count, {@link #HIDDEN}, {@link #FLAGGED}, {@link #BOMB}, {@link #EXPLODED} or {@link #WRONG_FLAG}.
+ * A game created without a seed does not send its seed, since it would give away every bomb.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class MinesweeperServer {
+	/**
+	 * The value of a hidden cell, sent when a flag is removed.
+	 */
+	public static final int HIDDEN = 9;
+	
+	/**
+	 * The value of a flagged cell.
+	 */
+	public static final int FLAGGED = 10;
+	
+	/**
+	 * The value of a bomb shown at the end of a lost game.
+	 */
+	public static final int BOMB = 11;
+	
+	/**
+	 * The value of the bomb that lost the game.
+	 */
+	public static final int EXPLODED = 12;
+	
+	/**
+	 * The value of a flag on a cell that is not a bomb, shown at the end of a lost game.
+	 */
+	public static final int WRONG_FLAG = 13;
+	
+	/**
+	 * The number of milliseconds a game is kept without being played.
+	 */
+	public static final long IDLE = 30 * 60 * 1000L;
+	
+	/**
+	 * The largest number of cells of a game.
+	 */
+	public static final int MAX_CELLS = 1 << 20;
+	
+	/**
+	 * The largest number of cells of every game together, about 5 bytes each.
+	 */
+	public static final long MAX_TOTAL_CELLS = 1L << 26;
+	
+	/**
+	 * The largest number of games.
+	 */
+	public static final int MAX_GAMES = 1 << 16;
+	
+	/**
+	 * The largest number of cells of a game without guessing, since every try of its search plays a whole board.
+	 */
+	public static final int MAX_NO_GUESS_CELLS = 1 << 14;
+	
+	/**
+	 * The {@link HttpServer}.
+	 */
+	private final HttpServer server;
+	
+	/**
+	 * The threads handling the requests.
+	 */
+	private final ExecutorService executor;
+	
+	/**
+	 * The thread removing the idle games.
+	 */
+	private final ScheduledExecutorService sweeper;
+	
+	/**
+	 * Every game by its id.
+	 */
+	private final Map<Long, Game> games = new ConcurrentHashMap<>();
+	
+	/**
+	 * The id of the last game created.
+	 */
+	private final AtomicLong lastId = new AtomicLong();
+	
+	/**
+	 * The number of games, counting the games being created.
+	 */
+	private final AtomicInteger numGames = new AtomicInteger();
+	
+	/**
+	 * The number of cells of every game, counting the games being created.
+	 */
+	private final AtomicLong numCells = new AtomicLong();
+	
+	/**
+	 * <p>This {@code Game} class is one game hosted by the server.</p>
+	 */
+	private static class Game {
+		/**
+		 * The id of the game.
+		 */
+		private final long id;
+		
+		/**
+		 * The headless {@link MinesweeperBoard}.
+		 */
+		private final MinesweeperBoard board;
+		
+		/**
+		 * The value of {@link System#currentTimeMillis()} at the last request.
+		 */
+		private volatile long lastUsed = System.currentTimeMillis();
+		
+		/**
+		 * Creates a {@code Game}.
+		 * 
+		 * @param id	is the id of the game.
+		 * @param board	is the {@link MinesweeperBoard}.
+		 */
+		private Game(long id, MinesweeperBoard board) {
+			this.id = id;
+			this.board = board;
+		}
+	}
+	
+	/**
+	 * Creates a {@code MinesweeperServer} listening on {@code port}, which is not started.
+	 * 
+	 * @param port is the port, or 0 for any free port.
+	 * 
+	 * @throws IOException if the port cannot be bound.
+	 */
+	public MinesweeperServer(int port) throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress(port), 0x400);
+		this.executor = newExecutor();
+		this.server.setExecutor(this.executor);
+		this.server.createContext("/games", this::handle);
+		this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "MinesweeperServer sweeper");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+	
+	/**
+	 * Create the {@link ExecutorService} handling the requests: one virtual thread per request if the JVM has them,
+	 * or else a pool of two platform threads per processor.
+	 * 
+	 * @return the {@link ExecutorService}.
+	 */
+	private static ExecutorService newExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return Executors.newFixedThreadPool(2 * Runtime.getRuntime().availableProcessors());
+		}
+	}
+	
+	/**
+	 * Append the pair of {@code index} and {@code value} to {@code json}.
+	 * 
+	 * @param json	is the response being built.
+	 * @param index	is the cell.
+	 * @param value	is the value of the cell.
+	 */
+	private static void cell(StringBuilder json, int index, int value) {
+		if (json.charAt(json.length() - 1) != '[') json.append(',');
+		json.append(index).append(',').append(value);
+	}
+	
+	/**
+	 * Append {@code game} up to its list of cells to {@code json}.
+	 * 
+	 * @param json	is the response being built.
+	 * @param game	is the {@link Game}.
+	 */
+	private static void header(StringBuilder json, Game game) {
+		MinesweeperBoard board = game.board;
+		String state = !board.getGameOver() ? "playing" : board.getExploded() >= 0 ? "lost" : "won";
+		json.append("{\"id\":").append(game.id)
+			.append(",\"rows\":").append(board.getRowMax())
+			.append(",\"cols\":").append(board.getColMax())
+			.append(",\"bombs\":").append(board.getNumBombs())
+			.append(",\"state\":\"").append(state)
+			.append("\",\"flags\":").append(board.getFlags())
+			.append(",\"cells\":[");
+	}
+	
+	/**
+	 * Append the bombs of {@code game} to {@code json} if it has been lost, along with every flag, since wrong flags are shown as well.
+	 * 
+	 * @param json	is the response being built.
+	 * @param game	is the {@link Game}.
+	 */
+	private static void lost(StringBuilder json, Game game) {
+		MinesweeperBoard board = game.board;
+		MinesweeperModel model = board.getModel();
+		if (board.getExploded() < 0) return;
+		for (int i = 0; i < model.getNumMines(); i++) {
+			int mine = model.getMine(i);
+			if (model.isFlagged(mine)) continue;
+			cell(json, mine, mine == board.getExploded() ? EXPLODED : BOMB);
+		} for (int i = 0; i < model.getNumFlags(); i++) {
+			int flag = model.getFlag(i);
+			cell(json, flag, model.isMine(flag) ? FLAGGED : WRONG_FLAG);
+		}
+	}
+	
+	/**
+	 * Determine the value of the parameter {@code name} of {@code query}.
+	 * 
+	 * @param query	is the query of the request, or {@code null}.
+	 * @param name	is the name of the parameter.
+	 * 
+	 * @return the value, or {@code null} if there is none.
+	 */
+	private static String parameter(String query, String name) {
+		if (query == null) return null;
+		for (String pair : query.split("&")) {
+			int equals = pair.indexOf('=');
+			if (equals == name.length() && pair.startsWith(name)) return pair.substring(equals + 1);
+		} return null;
+	}
+	
+	/**
+	 * Determine the value of the whole number parameter {@code name} of {@code query}.
+	 * 
+	 * @param query	is the query of the request, or {@code null}.
+	 * @param name	is the name of the parameter.
+	 * 
+	 * @return the value.
+	 * 
+	 * @throws IllegalArgumentException if there is no such parameter or it is not a whole number.
+	 */
+	private static int intParameter(String query, String name) throws IllegalArgumentException {
+		String value = parameter(query, name);
+		if (value == null) throw new IllegalArgumentException("Missing parameter: " + name);
+		return Integer.parseInt(value);
+	}
+	
+	/**
+	 * Create a game.
+	 * 
+	 * @param query is the query of the request.
+	 * 
+	 * @return the response.
+	 * 
+	 * @throws IllegalArgumentException	if the size of the board is illegal.
+	 * @throws IllegalStateException	if there are too many games or cells.
+	 */
+	private String create(String query) throws IllegalArgumentException, IllegalStateException {
+		int rows = intParameter(query, "rows"), cols = intParameter(query, "cols"), bombs = intParameter(query, "bombs");
+		MinesweeperBoard.validate(rows, cols, bombs);
+		int size = rows * cols;
+		boolean isNoGuess = Boolean.parseBoolean(parameter(query, "noGuess"));
+		if (size > MAX_CELLS)						throw new IllegalArgumentException("Board is larger than " + MAX_CELLS + " cells");
+		if (isNoGuess && size > MAX_NO_GUESS_CELLS)	throw new IllegalArgumentException("Board without guessing is larger than " + MAX_NO_GUESS_CELLS + " cells");
+		String seed = parameter(query, "seed");
+		
+		boolean isFull = this.numGames.incrementAndGet() > MAX_GAMES;
+		isFull |= this.numCells.addAndGet(size) > MAX_TOTAL_CELLS;
+		if (isFull) {
+			this.release(size);
+			throw new IllegalStateException("Too many games");
+		}
+		
+		Game game;
+		try {
+			MinesweeperBoard board = new MinesweeperBoard(rows, cols, bombs, ThreadLocalRandom.current().nextLong());
+			board.setNoGuess(isNoGuess);
+			if (seed != null) board.reset(Long.parseLong(seed));
+			game = new Game(this.lastId.incrementAndGet(), board);
+		} catch (RuntimeException re) {
+			this.release(size);
+			throw re;
+		} this.games.put(game.id, game);
+		
+		StringBuilder json = new StringBuilder(0x80);
+		header(json, game);
+		json.append(']');
+		if (seed != null) json.append(",\"seed\":").append(game.board.getSeed());
+		return json.append('}').toString();
+	}
+	
+	/**
+	 * Make the move {@code action} on {@code game}.
+	 * 
+	 * @param game		is the {@link Game}.
+	 * @param action	is {@code reveal}, {@code flag} or {@code chord}.
+	 * @param query		is the query of the request.
+	 * 
+	 * @return the response, or {@code null} if there is no such move.
+	 * 
+	 * @throws IllegalArgumentException if the cell is illegal.
+	 */
+	private static String move(Game game, String action, String query) throws IllegalArgumentException {
+		int row = intParameter(query, "row"), col = intParameter(query, "col");
+		StringBuilder json = new StringBuilder(0x80);
+		
+		synchronized (game) {
+			MinesweeperBoard board = game.board;
+			MinesweeperModel model = board.getModel();
+			if (row < 0 || row >= board.getRowMax() || col < 0 || col >= board.getColMax())
+				throw new IllegalArgumentException("Illegal cell: (" + row + ", " + col + ")");
+			int index = row * board.getColMax() + col, from = model.getNumRevealed();
+			boolean wasFlagged = model.isFlagged(index);
+			
+			switch (action) {
+			case "reveal":
+				board.reveal(row, col);
+				break;
+			case "flag":
+				board.flag(row, col);
+				break;
+			case "chord":
+				board.chord(row, col);
+				break;
+			default:
+				return null;
+			}
+			
+			header(json, game);
+			for (int i = from; i < model.getNumRevealed(); i++) {
+				int revealed = model.getRevealed(i);
+				cell(json, revealed, model.getCount(revealed));
+			} if (model.isFlagged(index) != wasFlagged) cell(json, index, wasFlagged ? HIDDEN : FLAGGED);
+			lost(json, game);
+		} return json.append("]}").toString();
+	}
+	
+	/**
+	 * Determine every cell of {@code game} that is not hidden.
+	 * 
+	 * @param game is the {@link Game}.
+	 * 
+	 * @return the response.
+	 */
+	private static String state(Game game) {
+		StringBuilder json = new StringBuilder(0x80);
+		synchronized (game) {
+			MinesweeperModel model = game.board.getModel();
+			header(json, game);
+			for (int i = 0; i < model.getNumRevealed(); i++) {
+				int revealed = model.getRevealed(i);
+				cell(json, revealed, model.getCount(revealed));
+			}
+			if (game.board.getExploded() >= 0)	lost(json, game);
+			else for (int i = 0; i < model.getNumFlags(); i++) cell(json, model.getFlag(i), FLAGGED);
+		} return json.append("]}").toString();
+	}
+	
+	/**
+	 * Handle one request to {@code /games}.
+	 * 
+	 * @param exchange is the request and its response.
+	 * 
+	 * @throws IOException if the response cannot be sent.
+	 */
+	private void handle(HttpExchange exchange) throws IOException {
+		String method = exchange.getRequestMethod(), query = exchange.getRequestURI().getRawQuery();
+		String[] path = exchange.getRequestURI().getPath().split("/");
+		int status = 200;
+		String body;
+		
+		try {
+			if (path.length < 2 || !path[1].equals("games")) {
+				body = error(status = 404, "No such resource");
+			} else if (path.length == 2) {
+				if (method.equals("POST"))	body = this.create(query);
+				else						body = error(status = 405, "Method not allowed");
+			} else {
+				Game game = path.length <= 4 ? this.games.get(Long.parseLong(path[2])) : null;
+				if (game == null) {
+					body = error(status = 404, "No such game");
+				} else if (path.length == 3) {
+					switch (method) {
+					case "GET":
+						body = state(game);
+						break;
+					case "DELETE":
+						this.remove(game);
+						body = "{\"id\":" + game.id + "}";
+						break;
+					default:
+						body = error(status = 405, "Method not allowed");
+					}
+				} else if (!method.equals("POST")) {
+					body = error(status = 405, "Method not allowed");
+				} else {
+					body = move(game, path[3], query);
+					if (body == null) body = error(status = 404, "No such move: " + path[3]);
+				} if (game != null) game.lastUsed = System.currentTimeMillis();
+			}
+		} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+			body = error(status = 400, e.getMessage());
+		} catch (IllegalStateException ise) {
+			body = error(status = 503, ise.getMessage());
+		}
+		
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+	
+	/**
+	 * Create the response of an error.
+	 * 
+	 * @param status	is the status of the response.
+	 * @param message	is the message, which is quoted as is.
+	 * 
+	 * @return the response.
+	 */
+	private static String error(int status, String message) {
+		return "{\"status\":" + status + ",\"error\":\"" + String.valueOf(message).replace("\\", "\\\\").replace("\"", "\\\"") + "\"}";
+	}
+	
+	/**
+	 * Determine the port the server is listening on.
+	 * 
+	 * @return the port.
+	 */
+	public int getPort() {
+		return this.server.getAddress().getPort();
+	}
+	
+	/**
+	 * Stop counting a game of {@code size} cells.
+	 * 
+	 * @param size is the number of cells.
+	 */
+	private void release(int size) {
+		this.numGames.decrementAndGet();
+		this.numCells.addAndGet(-size);
+	}
+	
+	/**
+	 * Remove {@code game}, if it has not been removed already.
+	 * 
+	 * @param game is the {@link Game}.
+	 */
+	private void remove(Game game) {
+		if (this.games.remove(game.id, game)) this.release(game.board.getModel().size());
+	}
+	
+	/**
+	 * Determine the number of games hosted.
+	 * 
+	 * @return the number of games.
+	 */
+	public int size() {
+		return this.games.size();
+	}
+	
+	/**
+	 * Start listening, and removing the idle games every minute.
+	 */
+	public void start() {
+		this.server.start();
+		this.sweeper.scheduleWithFixedDelay(() -> {
+			long oldest = System.currentTimeMillis() - IDLE;
+			for (Game game : this.games.values()) if (game.lastUsed < oldest) this.remove(game);
+		}, 1, 1, TimeUnit.MINUTES);
+	}
+	
+	/**
+	 * Stop listening, waiting at most {@code delay} seconds for the requests being handled.
+	 * 
+	 * @param delay is the number of seconds to wait.
+	 */
+	public void stop(int delay) {
+		this.server.stop(delay);
+		this.sweeper.shutdownNow();
+		this.executor.shutdown();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,331 @@
+import java.util.Objects;
+
+/**
+ * <p>This {@code MinesweeperSolver} class plays a {@link MinesweeperBoard} for as long as a move can be deduced without guessing.</p>
+ * <p>It only looks at what a player can see: the count of every revealed cell and the flags, which it trusts to be bombs.
+ * Two rules are used:</p>
+ * <ul>
+ * <li>Single point: if a count is met by its flags, its other hidden neighbours are safe; if it needs all of them, they are bombs.</li>
+ * <li>Subset: if the hidden neighbours of one count are all neighbours of another, the difference holds the difference of the bombs.</li>
+ * </ul>
+ * <p>Revealed cells wait in a work list and are only looked at again when a cell around them changes, so a move costs time
+ * proportional to the cells it changes rather than to the size of the board.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class MinesweeperSolver {
+	/**
+	 * The {@link MinesweeperBoard} being played.
+	 */
+	private final MinesweeperBoard board;
+	
+	/**
+	 * The {@link MinesweeperModel} of {@link #board}.
+	 */
+	private final MinesweeperModel model;
+	
+	/**
+	 * The maximum number of rows.
+	 */
+	private final int rowMax;
+	
+	/**
+	 * The maximum number of columns.
+	 */
+	private final int colMax;
+	
+	/**
+	 * The work list of revealed cells to look at, as a ring of {@code rowMax * colMax} cells.
+	 */
+	private final int[] work;
+	
+	/**
+	 * A boolean for every cell determining if it is in {@link #work}.
+	 */
+	private final boolean[] queued;
+	
+	/**
+	 * The hidden neighbours of the cell being looked at.
+	 */
+	private final int[] hidden = new int[8];
+	
+	/**
+	 * The hidden neighbours of the other cell compared by the subset rule.
+	 */
+	private final int[] other = new int[8];
+	
+	/**
+	 * The hidden cells of one set but not the other.
+	 */
+	private final int[] diff = new int[8];
+	
+	/**
+	 * The position in {@link #work} of the next cell to look at.
+	 */
+	private int head;
+	
+	/**
+	 * The number of cells in {@link #work}.
+	 */
+	private int size;
+	
+	/**
+	 * The number of cells of the reveal log of {@link #model} that have been added to {@link #work}.
+	 */
+	private int synced;
+	
+	/**
+	 * The number of cells revealed or flagged by this.
+	 */
+	private int moves;
+	
+	/**
+	 * The number of flagged neighbours found by the last call to {@link #hidden(int, int[])}.
+	 */
+	private int flagged;
+	
+	/**
+	 * Creates a {@code MinesweeperSolver} playing {@code board}.
+	 * 
+	 * @param board is the {@link MinesweeperBoard} to play.
+	 * 
+	 * @throws NullPointerException if {@code board} is {@code null}.
+	 */
+	public MinesweeperSolver(MinesweeperBoard board) throws NullPointerException {
+		this.board = Objects.requireNonNull(board, "MinesweeperSolver must have a MinesweeperBoard");
+		this.model = board.getModel();
+		this.rowMax = board.getRowMax();
+		this.colMax = board.getColMax();
+		this.work = new int[this.model.size()];
+		this.queued = new boolean[this.model.size()];
+	}
+	
+	/**
+	 * Flag every cell of {@code cells}.
+	 * 
+	 * @param cells	are the cells.
+	 * @param n		is the number of cells.
+	 */
+	private void flagAll(int[] cells, int n) {
+		for (int i = 0; i < n; i++) {
+			int cell = cells[i];
+			if (this.model.isFlagged(cell) || this.model.isRevealed(cell)) continue;
+			this.board.flag(cell / this.colMax, cell % this.colMax);
+			this.moves++;
+			this.queueAround(cell);
+		}
+	}
+	
+	/**
+	 * Returns {@link #board}
+	 * 
+	 * @return {@code board}.
+	 */
+	public MinesweeperBoard getBoard() {
+		return this.board;
+	}
+	
+	/**
+	 * Determine the number of cells revealed or flagged by this since the last {@link #reset()}.
+	 * 
+	 * @return {@link #moves}
+	 */
+	public int getMoves() {
+		return this.moves;
+	}
+	
+	/**
+	 * Store the hidden neighbours of {@code cell} into {@code out}.
+	 * 
+	 * @param cell	is a revealed cell.
+	 * @param out	is where to store the hidden neighbours.
+	 * 
+	 * @return the number of hidden neighbours. The number of flagged neighbours is stored into {@link #flagged}.
+	 */
+	private int hidden(int cell, int[] out) {
+		int row = cell / this.colMax, col = cell % this.colMax, n = 0;
+		int rowEnd = Math.min(row + 1, this.rowMax - 1), colEnd = Math.min(col + 1, this.colMax - 1);
+		this.flagged = 0;
+		
+		for (int i = Math.max(row - 1, 0); i <= rowEnd; i++) {
+			for (int j = Math.max(col - 1, 0); j <= colEnd; j++) {
+				int next = i * this.colMax + j;
+				if (this.model.isRevealed(next))		continue;
+				if (this.model.isFlagged(next))			this.flagged++;
+				else									out[n++] = next;
+			}
+		} return n;
+	}
+	
+	/**
+	 * Determine if every cell of {@code a} is in {@code b}, and store the cells of {@code b} that are not in {@code a} into {@link #diff}.
+	 * 
+	 * @param a		is the smaller set.
+	 * @param na	is the number of cells in {@code a}.
+	 * @param b		is the larger set.
+	 * @param nb	is the number of cells in {@code b}.
+	 * 
+	 * @return the number of cells in {@link #diff}, or -1 if {@code a} is not a subset of {@code b}.
+	 */
+	private int difference(int[] a, int na, int[] b, int nb) {
+		int n = 0, found = 0;
+		for (int i = 0; i < nb; i++) {
+			boolean isShared = false;
+			for (int j = 0; j < na; j++) {
+				if (a[j] == b[i]) {
+					isShared = true;
+					break;
+				}
+			}
+			if (isShared)	found++;
+			else			this.diff[n++] = b[i];
+		} return found == na ? n : -1;
+	}
+	
+	/**
+	 * Add {@code cell} to {@link #work} if it is a revealed count that is not already there.
+	 * 
+	 * @param cell is the cell.
+	 */
+	private void queue(int cell) {
+		if (this.queued[cell] || !this.model.isRevealed(cell) || this.model.getCount(cell) == 0) return;
+		this.queued[cell] = true;
+		this.work[(this.head + this.size++) % this.work.length] = cell;
+	}
+	
+	/**
+	 * Add {@code cell} and every revealed cell around it to {@link #work}.
+	 * 
+	 * @param cell is the cell that changed.
+	 */
+	private void queueAround(int cell) {
+		int row = cell / this.colMax, col = cell % this.colMax;
+		int rowEnd = Math.min(row + 1, this.rowMax - 1), colEnd = Math.min(col + 1, this.colMax - 1);
+		
+		for (int i = Math.max(row - 1, 0); i <= rowEnd; i++) {
+			for (int j = Math.max(col - 1, 0); j <= colEnd; j++) {
+				this.queue(i * this.colMax + j);
+			}
+		}
+	}
+	
+	/**
+	 * Forget everything about the last game.<br>
+	 * This must be called after {@link MinesweeperBoard#reset()}.
+	 */
+	public void reset() {
+		for (int i = 0; i < this.size; i++) this.queued[this.work[(this.head + i) % this.work.length]] = false;
+		this.head = this.size = this.synced = this.moves = 0;
+	}
+	
+	/**
+	 * Reveal every cell of {@code cells}.
+	 * 
+	 * @param cells	are the cells.
+	 * @param n		is the number of cells.
+	 */
+	private void revealAll(int[] cells, int n) {
+		for (int i = 0; i < n && !this.board.getGameOver(); i++) {
+			int cell = cells[i];
+			if (this.model.isFlagged(cell) || this.model.isRevealed(cell)) continue;
+			this.board.reveal(cell / this.colMax, cell % this.colMax);
+			this.moves++;
+			this.sync();
+		}
+	}
+	
+	/**
+	 * Make every move that can be deduced from {@code cell}.
+	 * 
+	 * @param cell is a revealed count.
+	 */
+	private void step(int cell) {
+		int n = this.hidden(cell, this.hidden);
+		if (n == 0) return;
+		int need = this.model.getCount(cell) - this.flagged;
+		
+		if (need == 0) {
+			this.revealAll(this.hidden, n);
+			return;
+		} if (need == n) {
+			this.flagAll(this.hidden, n);
+			return;
+		}
+		
+		int row = cell / this.colMax, col = cell % this.colMax;
+		int rowEnd = Math.min(row + 2, this.rowMax - 1), colEnd = Math.min(col + 2, this.colMax - 1);
+		
+		for (int i = Math.max(row - 2, 0); i <= rowEnd; i++) {
+			for (int j = Math.max(col - 2, 0); j <= colEnd; j++) {
+				int next = i * this.colMax + j;
+				if (next == cell || !this.model.isRevealed(next) || this.model.getCount(next) == 0) continue;
+				
+				int m = this.hidden(next, this.other);
+				if (m == 0) continue;
+				int otherNeed = this.model.getCount(next) - this.flagged;
+				
+				int d = m >= n ? this.difference(this.hidden, n, this.other, m) : this.difference(this.other, m, this.hidden, n);
+				if (d <= 0) continue;
+				int bombs = m >= n ? otherNeed - need : need - otherNeed;
+				
+				if (bombs == 0) {
+					this.revealAll(this.diff, d);
+					return;
+				} if (bombs == d) {
+					this.flagAll(this.diff, d);
+					return;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Make every move that can be deduced.
+	 * 
+	 * @return {@code true} if the game was won.
+	 */
+	public boolean solve() {
+		this.sync();
+		while (this.size > 0 && !this.board.getGameOver()) {
+			int cell = this.work[this.head];
+			this.head = (this.head + 1) % this.work.length;
+			this.size--;
+			this.queued[cell] = false;
+			this.step(cell);
+		} return this.isWon();
+	}
+	
+	/**
+	 * Start a new game by revealing the cell at ({@code row}, {@code col}), then make every move that can be deduced.
+	 * 
+	 * @param row is the row of the first cell.
+	 * @param col is the column of the first cell.
+	 * 
+	 * @return {@code true} if the game was won.
+	 */
+	public boolean solve(int row, int col) {
+		this.reset();
+		this.board.reveal(row, col);
+		this.moves++;
+		return this.solve();
+	}
+	
+	/**
+	 * Determine if the game was won.
+	 * 
+	 * @return {@code true} if every cell that is not a bomb is revealed.
+	 */
+	public boolean isWon() {
+		return this.board.getNumReveal() == this.board.getRevealableTile();
+	}
+	
+	/**
+	 * Add every cell revealed since the last call to {@link #work}, along with the revealed cells around it.
+	 */
+	private void sync() {
+		for (int end = this.model.getNumRevealed(); this.synced < end; this.synced++) {
+			this.queueAround(this.model.getRevealed(this.synced));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,311 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>This {@code MinesweeperTournament} class plays {@link MinesweeperSolver} against many seeded games of each preset of {@link Minesweeper},
+ * and reports how often it wins.</p>
+ * <p>Game {@code i} of a tournament is {@link MinesweeperBoard#reset(long)} with the seed plus {@code i}, and is opened in the middle.
+ * When the solver is stuck it reveals the hidden cell least likely to be a bomb by {@link MineProbability}, lowest index first and a cell
+ * whose probability could not be determined last, so every game plays out the same whichever thread plays it.</p>
+ * <p>The games are split into batches on a work-stealing {@link ForkJoinPool}. Every thread keeps its own board, solver and buffers,
+ * so a game allocates nothing but the search of {@link MineProbability}, and the results are added to {@link LongAdder}s without locking.
+ * Run it with {@code java -Djava.awt.headless=true MinesweeperTournament [games] [threads] [seed]}; the report is printed as JSON.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class MinesweeperTournament {
+	/**
+	 * The presets of {@link Minesweeper}, as rows, columns then bombs.
+	 */
+	private static final int[][] presets = {{9, 9, 10}, {16, 16, 40}, {16, 30, 99}};
+	
+	/**
+	 * The name of every preset.
+	 */
+	private static final String[] names = {"Easy", "Medium", "Hard"};
+	
+	/**
+	 * The most games played by one task before it is split.
+	 */
+	private static final int BATCH = 0x100;
+	
+	/**
+	 * The number of buckets of {@link #guessHistogram}. The last one counts every game with more guesses.
+	 */
+	private static final int GUESSES = 0x20;
+	
+	/**
+	 * The maximum number of rows.
+	 */
+	private final int rowMax;
+	
+	/**
+	 * The maximum number of columns.
+	 */
+	private final int colMax;
+	
+	/**
+	 * The number of bombs on each board.
+	 */
+	private final int numBombs;
+	
+	/**
+	 * The seed of the first game.
+	 */
+	private final long seed;
+	
+	/**
+	 * The {@link ForkJoinPool} playing the games.
+	 */
+	private final ForkJoinPool pool;
+	
+	/**
+	 * The {@link Player} of every thread of {@link #pool}.
+	 */
+	private final ThreadLocal<Player> players = ThreadLocal.withInitial(Player::new);
+	
+	/**
+	 * The number of games played.
+	 */
+	private final LongAdder games = new LongAdder();
+	
+	/**
+	 * The number of games won.
+	 */
+	private final LongAdder wins = new LongAdder();
+	
+	/**
+	 * The number of cells revealed without knowing they were safe. A cell the solver missed but {@link MineProbability} proves safe is not a guess,
+	 * but a cell whose probability could not be determined is.
+	 */
+	private final LongAdder guesses = new LongAdder();
+	
+	/**
+	 * The number of cells revealed or flagged.
+	 */
+	private final LongAdder moves = new LongAdder();
+	
+	/**
+	 * The number of games by their number of guesses.
+	 */
+	private final LongAdder[] guessHistogram = new LongAdder[GUESSES];
+	
+	/**
+	 * The number of games by the time they took: bucket {@code k} counts games of less than 2<sup>{@code k}</sup> nanoseconds.
+	 */
+	private final LongAdder[] timeHistogram = new LongAdder[Long.SIZE];
+	
+	/**
+	 * The number of nanoseconds the last call to {@link #play(long)} took.
+	 */
+	private long elapsed;
+	
+	/**
+	 * <p>This {@code Player} class is the board and buffers of one thread.</p>
+	 */
+	private class Player {
+		/**
+		 * The headless {@link MinesweeperBoard} every game is played on.
+		 */
+		private final MinesweeperBoard board = new MinesweeperBoard(rowMax, colMax, numBombs, 0L);
+		
+		/**
+		 * The {@link MinesweeperSolver} of {@link #board}.
+		 */
+		private final MinesweeperSolver solver = new MinesweeperSolver(this.board);
+		
+		/**
+		 * The {@link MineProbability} of {@link #board}.
+		 */
+		private final MineProbability probability = new MineProbability(this.board, pool);
+		
+		/**
+		 * The probability that each cell is a bomb.
+		 */
+		private final double[] p = new double[rowMax * colMax];
+		
+		/**
+		 * Play game {@code i} to the end.
+		 * 
+		 * @param i is the game.
+		 */
+		private void play(long i) {
+			long start = System.nanoTime();
+			MinesweeperModel model = this.board.getModel();
+			this.board.reset(seed + i);
+			this.solver.solve(rowMax / 2, colMax / 2);
+			
+			int guessed = 0;
+			while (!this.board.getGameOver()) {
+				this.probability.compute(this.p);
+				int best = -1;
+				for (int cell = 0; cell < this.p.length; cell++) {
+					if (model.isRevealed(cell) || model.isFlagged(cell)) continue;
+					if (best < 0 || Double.compare(this.p[cell], this.p[best]) < 0) best = cell;
+				}
+				
+				if (!(this.p[best] <= 0)) guessed++;
+				this.board.reveal(best / colMax, best % colMax);
+				this.solver.solve();
+			}
+			
+			games.increment();
+			if (this.board.getExploded() < 0) wins.increment();
+			guesses.add(guessed);
+			moves.add(this.solver.getMoves() + guessed);
+			guessHistogram[Math.min(guessed, GUESSES - 1)].increment();
+			timeHistogram[Long.SIZE - Long.numberOfLeadingZeros(System.nanoTime() - start)].increment();
+		}
+	}
+	
+	/**
+	 * <p>This {@code Games} class plays a range of games, splitting it while it is larger than {@value MinesweeperTournament#BATCH}.</p>
+	 */
+	private class Games extends RecursiveAction {
+		/**
+		 * serialVersionUID
+		 */
+		private static final long serialVersionUID = 6302174452817796095L;
+		
+		/**
+		 * The first game.
+		 */
+		private final long from;
+		
+		/**
+		 * The game after the last one.
+		 */
+		private final long to;
+		
+		/**
+		 * Creates a {@code Games}.
+		 * 
+		 * @param from	is the first game.
+		 * @param to	is the game after the last one.
+		 */
+		private Games(long from, long to) {
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected void compute() {
+			if (this.to - this.from > BATCH) {
+				long mid = (this.from + this.to) >>> 1;
+				invokeAll(new Games(this.from, mid), new Games(mid, this.to));
+				return;
+			}
+			
+			Player player = players.get();
+			for (long i = this.from; i < this.to; i++) player.play(i);
+		}
+	}
+	
+	/**
+	 * Creates a {@code MinesweeperTournament}.
+	 * 
+	 * @param rowMax	is the maximum number of rows.
+	 * @param colMax	is the maximum number of columns.
+	 * @param numBombs	is the number of bombs on each board.
+	 * @param seed		is the seed of the first game.
+	 * @param pool		is the {@link ForkJoinPool} playing the games.
+	 * 
+	 * @throws IndexOutOfBoundsException	if {@code rowMax} is less than 3 or {@code colMax} is less than 3.
+	 * @throws IllegalArgumentException		if {@code numBombs} is greater ({@code rowMax} * {@code colMax} - 1) or less than 1.
+	 */
+	public MinesweeperTournament(int rowMax, int colMax, int numBombs, long seed, ForkJoinPool pool) throws IndexOutOfBoundsException, IllegalArgumentException {
+		MinesweeperBoard.validate(rowMax, colMax, numBombs);
+		this.rowMax = rowMax;
+		this.colMax = colMax;
+		this.numBombs = numBombs;
+		this.seed = seed;
+		this.pool = pool;
+		for (int i = 0; i < this.guessHistogram.length; i++)	this.guessHistogram[i] = new LongAdder();
+		for (int i = 0; i < this.timeHistogram.length; i++)		this.timeHistogram[i] = new LongAdder();
+	}
+	
+	/**
+	 * Play {@code n} games on {@link #pool} and wait for them to end.
+	 * 
+	 * @param n is the number of games.
+	 */
+	public void play(long n) {
+		long start = System.nanoTime();
+		this.pool.invoke(new Games(0, n));
+		this.elapsed = System.nanoTime() - start;
+	}
+	
+	/**
+	 * Determine the fraction of the games that were won.
+	 * 
+	 * @return the win rate.
+	 */
+	public double getWinRate() {
+		long n = this.games.sum();
+		return n == 0 ? 0 : (double) this.wins.sum() / n;
+	}
+	
+	/**
+	 * Append the results to {@code json} as one object.
+	 * 
+	 * @param json	is where to append.
+	 * @param name	is the name of the preset.
+	 */
+	public void report(StringBuilder json, String name) {
+		long n = this.games.sum();
+		json.append("{\"name\":\"").append(name)
+			.append("\",\"rows\":").append(this.rowMax)
+			.append(",\"cols\":").append(this.colMax)
+			.append(",\"bombs\":").append(this.numBombs)
+			.append(",\"seed\":").append(this.seed)
+			.append(",\"games\":").append(n)
+			.append(",\"wins\":").append(this.wins.sum())
+			.append(",\"winRate\":").append(this.getWinRate())
+			.append(",\"guessesPerGame\":").append(n == 0 ? 0 : (double) this.guesses.sum() / n)
+			.append(",\"movesPerGame\":").append(n == 0 ? 0 : (double) this.moves.sum() / n)
+			.append(",\"gamesPerSecond\":").append(this.elapsed == 0 ? 0 : n * 1e9 / this.elapsed)
+			.append(",\"guessHistogram\":");
+		histogram(json, this.guessHistogram);
+		json.append(",\"nanosLog2Histogram\":");
+		histogram(json, this.timeHistogram);
+		json.append('}');
+	}
+	
+	/**
+	 * Append {@code buckets} to {@code json} as an array, leaving out the empty buckets at the end.
+	 * 
+	 * @param json		is where to append.
+	 * @param buckets	are the counts.
+	 */
+	private static void histogram(StringBuilder json, LongAdder[] buckets) {
+		int end = buckets.length;
+		while (end > 0 && buckets[end - 1].sum() == 0) end--;
+		json.append('[');
+		for (int i = 0; i < end; i++) json.append(i == 0 ? "" : ",").append(buckets[i].sum());
+		json.append(']');
+	}
+	
+	/**
+	 * Play a tournament of every preset and print the report.
+	 * 
+	 * @param args are the number of games of each preset, 100000 by default, the number of threads, every processor by default,
+	 * and the seed, 0 by default.
+	 */
+	public static void main(String[] args) {
+		long n = args.length > 0 ? Long.parseLong(args[0]) : 100_000L;
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+		long seed = args.length > 2 ? Long.parseLong(args[2]) : 0L;
+		
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		StringBuilder json = new StringBuilder("{\"threads\":").append(threads).append(",\"presets\":[");
+		for (int i = 0; i < presets.length; i++) {
+			MinesweeperTournament tournament = new MinesweeperTournament(presets[i][0], presets[i][1], presets[i][2], seed, pool);
+			tournament.play(n);
+			if (i > 0) json.append(',');
+			tournament.report(json, names[i]);
+		} pool.shutdown();
+		System.out.println(json.append("]}"));
+	}
+}
\ No newline at end of file
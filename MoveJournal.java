@@ -0,0 +1,212 @@
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * <p>This {@code MoveJournal} class records every move made on a {@link MinesweeperBoard} as a compact binary event, so the games can be
+ * played again by {@link MoveReplay} without storing any board.</p>
+ * <p>A journal is a header of the magic number, the version, the rows, the columns and the bombs, followed by events that are only ever
+ * appended. Every event is a tag, the milliseconds since the event before it as a varint, and then:</p>
+ * <ul>
+ * <li>{@link #RESET} and {@link #RESET_NO_GUESS}: the 8 byte seed of the new game.</li>
+ * <li>{@link #PLACE}: the 8 byte seed the bombs of a game without guessing were placed from, written before the first reveal.</li>
+ * <li>{@link #REVEAL}, {@link #FLAG} and {@link #CHORD}: the index of the cell as a varint.</li>
+ * </ul>
+ * <p>A move on an expert board takes 3 or 4 bytes. Like {@link java.io.PrintStream}, writing never throws; {@link #checkError()} reports
+ * if it failed.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class MoveJournal implements Closeable {
+	/**
+	 * The first 4 bytes of every journal, {@code "MSWJ"}.
+	 */
+	public static final int MAGIC = 0x4D53574A;
+	
+	/**
+	 * The version of the format written.
+	 */
+	public static final int VERSION = 3;
+	
+	/**
+	 * The tag of a new game.
+	 */
+	public static final int RESET = 0;
+	
+	/**
+	 * The tag of a new game that can be cleared without guessing.
+	 */
+	public static final int RESET_NO_GUESS = 1;
+	
+	/**
+	 * The tag of a cell revealed.
+	 */
+	public static final int REVEAL = 2;
+	
+	/**
+	 * The tag of a cell flagged or unflagged.
+	 */
+	public static final int FLAG = 3;
+	
+	/**
+	 * The tag of a revealed cell chorded. It was added in version 2.
+	 */
+	public static final int CHORD = 4;
+	
+	/**
+	 * The tag of the bombs of a game without guessing placed. It was added in version 3.
+	 */
+	public static final int PLACE = 5;
+	
+	/**
+	 * The stream the events are written to.
+	 */
+	private final DataOutputStream out;
+	
+	/**
+	 * The value of {@link System#nanoTime()} at the last event.
+	 */
+	private long last;
+	
+	/**
+	 * A boolean determining if a new game has been recorded, since moves before it could not be played again.
+	 */
+	private boolean isStarted;
+	
+	/**
+	 * A boolean determining if writing has failed.
+	 */
+	private boolean isError;
+	
+	/**
+	 * Creates a {@code MoveJournal} of the games of {@code board}, writing the header to {@code out}.<br>
+	 * The journal still has to be given to {@link MinesweeperBoard#setJournal(MoveJournal)}, and records from the next new game on.
+	 * 
+	 * @param out	is the stream to write to.
+	 * @param board	is the {@link MinesweeperBoard} whose games are recorded.
+	 * 
+	 * @throws IOException if the header cannot be written.
+	 */
+	public MoveJournal(OutputStream out, MinesweeperBoard board) throws IOException {
+		this.out = new DataOutputStream(new BufferedOutputStream(Objects.requireNonNull(out, "MoveJournal must have an OutputStream")));
+		this.out.writeInt(MAGIC);
+		this.out.writeInt(VERSION);
+		this.out.writeInt(board.getRowMax());
+		this.out.writeInt(board.getColMax());
+		this.out.writeInt(board.getNumBombs());
+		this.last = System.nanoTime();
+	}
+	
+	/**
+	 * Record that the cell {@code index} was chorded.
+	 * 
+	 * @param index is the cell.
+	 */
+	public void chord(int index) {
+		this.write(CHORD, index);
+	}
+	
+	/**
+	 * Determine if writing has failed, after flushing.
+	 * 
+	 * @return {@code true} if an event could not be written.
+	 */
+	public boolean checkError() {
+		this.flush();
+		return this.isError;
+	}
+	
+	@Override
+	public void close() throws IOException {
+		this.out.close();
+	}
+	
+	/**
+	 * Write every buffered event.
+	 */
+	public void flush() {
+		try {
+			this.out.flush();
+		} catch (IOException ioe) {
+			this.isError = true;
+		}
+	}
+	
+	/**
+	 * Record that the cell {@code index} was flagged or unflagged.
+	 * 
+	 * @param index is the cell.
+	 */
+	public void flag(int index) {
+		this.write(FLAG, index);
+	}
+	
+	/**
+	 * Record the seed the bombs of a game without guessing were placed from, found by {@link NoGuessGenerator}.
+	 * 
+	 * @param placement is the seed.
+	 */
+	public void place(long placement) {
+		this.write(PLACE, placement);
+	}
+	
+	/**
+	 * Record a new game.
+	 * 
+	 * @param seed		is the seed of the game.
+	 * @param isNoGuess	determines if the game can be cleared without guessing.
+	 */
+	public void reset(long seed, boolean isNoGuess) {
+		this.isStarted = true;
+		this.write(isNoGuess ? RESET_NO_GUESS : RESET, seed);
+	}
+	
+	/**
+	 * Record that the cell {@code index} was revealed.
+	 * 
+	 * @param index is the cell.
+	 */
+	public void reveal(int index) {
+		this.write(REVEAL, index);
+	}
+	
+	/**
+	 * Write one event.
+	 * 
+	 * @param tag	is the kind of event.
+	 * @param value	is the seed of a new game or of the bombs placed, or the cell of a move.
+	 */
+	private void write(int tag, long value) {
+		if (!this.isStarted || this.isError) return;
+		long now = System.nanoTime(), delay = (now - this.last) / 1_000_000L;
+		this.last = now;
+		
+		try {
+			this.out.writeByte(tag);
+			writeVarint(this.out, delay);
+			if (tag == RESET || tag == RESET_NO_GUESS || tag == PLACE)	this.out.writeLong(value);
+			else														writeVarint(this.out, value);
+		} catch (IOException ioe) {
+			this.isError = true;
+		}
+	}
+	
+	/**
+	 * Write {@code value} 7 bits at a time from the low bits up, setting the top bit of every byte but the last.
+	 * 
+	 * @param out	is the stream to write to.
+	 * @param value	is a value that is not negative.
+	 * 
+	 * @throws IOException if the value cannot be written.
+	 */
+	private static void writeVarint(DataOutputStream out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		} out.writeByte((int) value);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,297 @@
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import javax.swing.Timer;
+
+/**
+ * <p>This {@code MoveReplay} class plays again the games recorded by a {@link MoveJournal}.</p>
+ * <p>Every event is read into arrays once. The games can then be played on a headless {@link MinesweeperBoard} as fast as it can go,
+ * or on a {@link MinesweeperPanel} at any speed, where each event waits for the time recorded before it.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class MoveReplay {
+	/**
+	 * The number of milliseconds between two checks for the events that are due in {@link #play(MinesweeperPanel, double)}.
+	 */
+	private static final int TICK = 0x10;
+	
+	/**
+	 * The maximum number of rows.
+	 */
+	private final int rowMax;
+	
+	/**
+	 * The maximum number of columns.
+	 */
+	private final int colMax;
+	
+	/**
+	 * The number of bombs on the board.
+	 */
+	private final int numBombs;
+	
+	/**
+	 * The tag of every event, see {@link MoveJournal}.
+	 */
+	private byte[] tags = new byte[0x40];
+	
+	/**
+	 * The seed of every new game, or the cell of every move.
+	 */
+	private long[] values = new long[0x40];
+	
+	/**
+	 * The milliseconds before every event.
+	 */
+	private long[] delays = new long[0x40];
+	
+	/**
+	 * The number of events.
+	 */
+	private int size;
+	
+	/**
+	 * Creates a {@code MoveReplay} reading every event of a journal from {@code in}.<br>
+	 * A journal cut short by a crash is read up to its last whole event.
+	 * The size of the board and the cell of every move are checked here, so a corrupt journal is refused before anything is replayed.
+	 * 
+	 * @param in is the stream to read from.
+	 * 
+	 * @throws IOException if the stream cannot be read, is not a journal, or holds an illegal board or cell.
+	 */
+	public MoveReplay(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+		if (data.readInt() != MoveJournal.MAGIC)	throw new IOException("Not a journal");
+		int version = data.readInt();
+		if (version < 1 || version > MoveJournal.VERSION)	throw new IOException("Illegal journal version: " + version);
+		this.rowMax = data.readInt();
+		this.colMax = data.readInt();
+		this.numBombs = data.readInt();
+		try {
+			MinesweeperBoard.validate(this.rowMax, this.colMax, this.numBombs);
+		} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+			throw new IOException("Illegal board in journal: " + e.getMessage(), e);
+		}
+		
+		long size = (long) this.rowMax * this.colMax;
+		try {
+			for (int tag; (tag = data.read()) >= 0; this.size++) {
+				if (tag > MoveJournal.PLACE) throw new IOException("Illegal event: " + tag);
+				if (this.size == this.tags.length) {
+					this.tags	= Arrays.copyOf(this.tags, 2 * this.size);
+					this.values	= Arrays.copyOf(this.values, 2 * this.size);
+					this.delays	= Arrays.copyOf(this.delays, 2 * this.size);
+				}
+				
+				this.tags[this.size] = (byte) tag;
+				this.delays[this.size] = readVarint(data);
+				this.values[this.size] = tag <= MoveJournal.RESET_NO_GUESS || tag == MoveJournal.PLACE ? data.readLong() : readVarint(data);
+				if (tag > MoveJournal.RESET_NO_GUESS && tag != MoveJournal.PLACE && (this.values[this.size] < 0 || this.values[this.size] >= size))
+					throw new IOException("Illegal cell of event " + this.size + ": " + this.values[this.size]);
+			}
+		} catch (EOFException eofe) {
+			//The last event was not finished, so it is left out.
+		}
+	}
+	
+	/**
+	 * Creates a {@code MoveReplay} reading every event of the journal at {@code path}.
+	 * 
+	 * @param path is the file.
+	 * 
+	 * @return the {@code MoveReplay}.
+	 * 
+	 * @throws IOException if the file cannot be read or is not a journal.
+	 */
+	public static MoveReplay read(Path path) throws IOException {
+		try (InputStream in = Files.newInputStream(path)) {
+			return new MoveReplay(in);
+		}
+	}
+	
+	/**
+	 * Apply the event {@code i} to {@code board}.
+	 * 
+	 * @param board	is the {@link MinesweeperBoard}.
+	 * @param i		is the event.
+	 */
+	private void apply(MinesweeperBoard board, int i) {
+		switch (this.tags[i]) {
+		case MoveJournal.RESET:
+		case MoveJournal.RESET_NO_GUESS:
+			board.setNoGuess(this.tags[i] == MoveJournal.RESET_NO_GUESS);
+			board.reset(this.values[i]);
+			return;
+		case MoveJournal.REVEAL:
+			board.reveal((int) this.values[i] / this.colMax, (int) this.values[i] % this.colMax);
+			return;
+		case MoveJournal.FLAG:
+			board.flag((int) this.values[i] / this.colMax, (int) this.values[i] % this.colMax);
+			return;
+		case MoveJournal.CHORD:
+			board.chord((int) this.values[i] / this.colMax, (int) this.values[i] % this.colMax);
+			return;
+		case MoveJournal.PLACE:
+			board.setPlacement(this.values[i]);
+			return;
+		default:
+			return;
+		}
+	}
+	
+	/**
+	 * Determine the maximum number of columns.
+	 * 
+	 * @return {@link #colMax}
+	 */
+	public int getColMax() {
+		return this.colMax;
+	}
+	
+	/**
+	 * Determine the number of bombs on the board.
+	 * 
+	 * @return {@link #numBombs}
+	 */
+	public int getNumBombs() {
+		return this.numBombs;
+	}
+	
+	/**
+	 * Determine the maximum number of rows.
+	 * 
+	 * @return {@link #rowMax}
+	 */
+	public int getRowMax() {
+		return this.rowMax;
+	}
+	
+	/**
+	 * Play every event on {@code panel}, waiting for the time recorded before each divided by {@code speed}.<br>
+	 * This must be called on the event dispatch thread. Each event is played by the {@link GameEngine} of the panel.
+	 * Every {@link #TICK} milliseconds, every event that is due is played, so the events of a fast replay are batched by the engine.
+	 * 
+	 * @param panel	is the {@link MinesweeperPanel}, whose board must be the size of the journal.
+	 * @param speed	is how many times faster than recorded to play.
+	 * 
+	 * @return the {@link Timer} playing the events, which can be stopped.
+	 * 
+	 * @throws IllegalArgumentException if the board is the wrong size or {@code speed} is not positive.
+	 */
+	public Timer play(MinesweeperPanel panel, double speed) throws IllegalArgumentException {
+		this.check(panel.getBoard());
+		if (!(speed > 0)) throw new IllegalArgumentException("Illegal speed: " + speed);
+		
+		int[] next = {0};
+		long start = System.nanoTime();
+		double[] due = {0};
+		Timer timer = new Timer(TICK, null);
+		timer.addActionListener(e -> {
+			double elapsed = (System.nanoTime() - start) / 1e6 * speed;
+			for (; next[0] < this.size && due[0] + this.delays[next[0]] <= elapsed; next[0]++) {
+				due[0] += this.delays[next[0]];
+				this.play(panel.getEngine(), next[0]);
+			} if (next[0] == this.size) timer.stop();
+		});
+		
+		if (this.size == 0) return timer;
+		timer.setInitialDelay(0);
+		timer.start();
+		return timer;
+	}
+	
+	/**
+	 * Play the event {@code i} on {@code engine}.<br>
+	 * A move is played as a move of the engine, so only the cells it changes are repainted; anything else is submitted to it.
+	 * 
+	 * @param engine	is the {@link GameEngine}.
+	 * @param i			is the event.
+	 */
+	private void play(GameEngine engine, int i) {
+		int index = (int) this.values[i];
+		switch (this.tags[i]) {
+		case MoveJournal.REVEAL:
+			engine.reveal(index / this.colMax, index % this.colMax);
+			return;
+		case MoveJournal.FLAG:
+			engine.flag(index / this.colMax, index % this.colMax);
+			return;
+		case MoveJournal.CHORD:
+			engine.chord(index / this.colMax, index % this.colMax);
+			return;
+		default:
+			engine.submit(board -> this.apply(board, i));
+			return;
+		}
+	}
+	
+	/**
+	 * Play every event on a new headless {@link MinesweeperBoard} as fast as possible.
+	 * 
+	 * @return the board after the last event.
+	 */
+	public MinesweeperBoard replay() {
+		MinesweeperBoard board = new MinesweeperBoard(this.rowMax, this.colMax, this.numBombs);
+		this.replay(board);
+		return board;
+	}
+	
+	/**
+	 * Play every event on {@code board} as fast as possible.
+	 * 
+	 * @param board is the {@link MinesweeperBoard}, which must be the size of the journal.
+	 * 
+	 * @throws IllegalArgumentException if the board is the wrong size.
+	 */
+	public void replay(MinesweeperBoard board) throws IllegalArgumentException {
+		this.check(board);
+		for (int i = 0; i < this.size; i++) this.apply(board, i);
+	}
+	
+	/**
+	 * Determine the number of events.
+	 * 
+	 * @return {@link #size}
+	 */
+	public int size() {
+		return this.size;
+	}
+	
+	/**
+	 * Check that {@code board} is the size of the journal.
+	 * 
+	 * @param board is the {@link MinesweeperBoard}.
+	 * 
+	 * @throws IllegalArgumentException if it is not.
+	 */
+	private void check(MinesweeperBoard board) throws IllegalArgumentException {
+		if (board.getRowMax() != this.rowMax || board.getColMax() != this.colMax || board.getNumBombs() != this.numBombs)
+			throw new IllegalArgumentException("Journal is of a " + this.rowMax + " x " + this.colMax + " board with " + this.numBombs + " bombs");
+	}
+	
+	/**
+	 * Read a value written by {@link MoveJournal}, 7 bits at a time from the low bits up.
+	 * 
+	 * @param in is the stream to read from.
+	 * 
+	 * @return the value.
+	 * 
+	 * @throws IOException if the value cannot be read or is too long.
+	 */
+	private static long readVarint(DataInputStream in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) return value;
+		} throw new IOException("Illegal varint");
+	}
+}
\ No newline at end of file
@@ -0,0 +1,162 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>This {@code NoGuessGenerator} class finds boards that {@link MinesweeperSolver} can clear from the first cell revealed without guessing.</p>
+ * <p>A board is tried by giving its seed to {@link MinesweeperBoard#reset(long)} and solving it.
+ * The seed of try {@code i} depends only on the seed asked for and {@code i}. The threads of a {@link ForkJoinPool} take the tries in order,
+ * and the lowest try cleared wins: a thread stops once the next try is above it, but every try below it is played out.
+ * So the seed returned depends only on the seed asked for, however many threads there are and however they are scheduled.
+ * A search that takes longer than a second gives up rather than return a seed that might not be the lowest.</p>
+ * <p>Every thread borrows a board and a solver from this generator and gives them back, so they are only created once for each thread.
+ * Their moves are muted in {@link EngineMetrics}.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class NoGuessGenerator {
+	/**
+	 * The most boards tried by one call of {@link #generate(int, int, long)}.
+	 */
+	private static final int ATTEMPTS = 10_000;
+	
+	/**
+	 * The most nanoseconds one call of {@link #generate(int, int, long)} tries boards for.
+	 */
+	private static final long TIMEOUT = 1_000_000_000L;
+	
+	/**
+	 * The maximum number of rows.
+	 */
+	private final int rowMax;
+	
+	/**
+	 * The maximum number of columns.
+	 */
+	private final int colMax;
+	
+	/**
+	 * The number of bombs on each board.
+	 */
+	private final int numBombs;
+	
+	/**
+	 * The {@link ForkJoinPool} trying the boards.
+	 */
+	private final ForkJoinPool pool;
+	
+	/**
+	 * The boards and solvers not being used by a thread.
+	 */
+	private final ConcurrentLinkedQueue<MinesweeperSolver> idle = new ConcurrentLinkedQueue<>();
+	
+	/**
+	 * Creates a {@code NoGuessGenerator} running on {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param rowMax	is the maximum number of rows.
+	 * @param colMax	is the maximum number of columns.
+	 * @param numBombs	is the number of bombs on each board.
+	 * 
+	 * @throws IndexOutOfBoundsException	if {@code rowMax} is less than 3 or {@code colMax} is less than 3.
+	 * @throws IllegalArgumentException		if {@code numBombs} is greater ({@code rowMax} * {@code colMax} - 1) or less than 1.
+	 */
+	public NoGuessGenerator(int rowMax, int colMax, int numBombs) throws IndexOutOfBoundsException, IllegalArgumentException {
+		this(rowMax, colMax, numBombs, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Creates a {@code NoGuessGenerator}.
+	 * 
+	 * @param rowMax	is the maximum number of rows.
+	 * @param colMax	is the maximum number of columns.
+	 * @param numBombs	is the number of bombs on each board.
+	 * @param pool		is the {@link ForkJoinPool} trying the boards.
+	 * 
+	 * @throws IndexOutOfBoundsException	if {@code rowMax} is less than 3 or {@code colMax} is less than 3.
+	 * @throws IllegalArgumentException		if {@code numBombs} is greater ({@code rowMax} * {@code colMax} - 1) or less than 1.
+	 * @throws NullPointerException			if {@code pool} is {@code null}.
+	 */
+	public NoGuessGenerator(int rowMax, int colMax, int numBombs, ForkJoinPool pool) throws IndexOutOfBoundsException, IllegalArgumentException, NullPointerException {
+		MinesweeperBoard.validate(rowMax, colMax, numBombs);
+		this.rowMax = rowMax;
+		this.colMax = colMax;
+		this.numBombs = numBombs;
+		this.pool = Objects.requireNonNull(pool, "NoGuessGenerator must have a ForkJoinPool");
+	}
+	
+	/**
+	 * Determine the seed of try {@code i}.
+	 * 
+	 * @param seed	is the seed of the boards tried.
+	 * @param i		is the try.
+	 * 
+	 * @return the seed of the board tried.
+	 */
+	private static long candidate(long seed, int i) {
+		return new SplittableRandom(seed + i * 0x9E3779B97F4A7C15L).nextLong();
+	}
+	
+	/**
+	 * Find a board that can be cleared without guessing when the cell at ({@code row}, {@code col}) is revealed first.<br>
+	 * The same arguments always give the same board, unless the search runs out of time.
+	 * 
+	 * @param row	is the row of the first cell.
+	 * @param col	is the column of the first cell.
+	 * @param seed	is the seed of the boards tried.
+	 * 
+	 * @return the seed of the board, for {@link MinesweeperBoard#reset(long)}.
+	 * 
+	 * @throws IndexOutOfBoundsException	if the cell is not on the board.
+	 * @throws IllegalStateException		if no such board was found in {@value #ATTEMPTS} tries or in a second.
+	 */
+	public long generate(int row, int col, long seed) throws IndexOutOfBoundsException, IllegalStateException {
+		if (row < 0 || row >= this.rowMax || col < 0 || col >= this.colMax)
+			throw new IndexOutOfBoundsException("Illegal cell: (" + row + ", " + col + ")");
+		
+		AtomicInteger next = new AtomicInteger(), best = new AtomicInteger(ATTEMPTS);
+		long deadline = System.nanoTime() + TIMEOUT;
+		List<ForkJoinTask<?>> tasks = new ArrayList<>();
+		for (int i = 0; i < this.pool.getParallelism(); i++) tasks.add(ForkJoinTask.adapt(() -> this.search(row, col, seed, deadline, next, best)));
+		this.pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+		
+		if (next.get() < 0)	throw new IllegalStateException("No board without guessing found in time");
+		if (best.get() == ATTEMPTS) throw new IllegalStateException("No board without guessing found in " + ATTEMPTS + " tries");
+		return candidate(seed, best.get());
+	}
+	
+	/**
+	 * Play the next try until the next try is above the lowest try cleared, or time runs out.
+	 * 
+	 * @param row		is the row of the first cell.
+	 * @param col		is the column of the first cell.
+	 * @param seed		is the seed of the boards tried.
+	 * @param deadline	is the value of {@link System#nanoTime()} when time runs out.
+	 * @param next		is the next try no thread has taken, set below 0 for every thread once time runs out.
+	 * @param best		is the lowest try cleared, or {@value #ATTEMPTS}.
+	 */
+	private void search(int row, int col, long seed, long deadline, AtomicInteger next, AtomicInteger best) {
+		boolean isMuted = EngineMetrics.setMuted(true);
+		MinesweeperSolver solver = this.idle.poll();
+		if (solver == null) solver = new MinesweeperSolver(new MinesweeperBoard(this.rowMax, this.colMax, this.numBombs, 0L));
+		try {
+			for (int i = next.getAndIncrement(); i >= 0 && i < best.get(); i = next.getAndIncrement()) {
+				if (System.nanoTime() - deadline > 0) {
+					next.set(Integer.MIN_VALUE);
+					return;
+				}
+				
+				solver.getBoard().reset(candidate(seed, i));
+				if (solver.solve(row, col)) best.accumulateAndGet(i, Math::min);
+			}
+		} finally {
+			EngineMetrics.setMuted(isMuted);
+			this.idle.add(solver);
+		}
+	}
+}
\ No newline at end of file
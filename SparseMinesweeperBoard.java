@@ -0,0 +1,549 @@
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * <p>This {@code SparseMinesweeperBoard} class is a headless board with no edges, whose memory grows with the cells played rather than its size.</p>
+ * <p>The board is split into chunks of {@value #SIZE} by {@value #SIZE} cells. Each row of a chunk is one {@code long} of bits
+ * for its bombs, one for its revealed cells and one for its flags. The bombs of a chunk are placed from a hash of the seed and the
+ * position of the chunk the first time it is looked at, so any chunk can be dropped and placed again exactly the same.
+ * The 3 by 3 cells around (0, 0) never hold a bomb, so the game can be opened there.</p>
+ * <p>At most {@value #MAX_LOADED} chunks are kept, least recently used first out. A chunk that is dropped is kept only if it was played:</p>
+ * <ul>
+ * <li>Untouched: nothing is kept, since its bombs can be placed again.</li>
+ * <li>Resolved, with every cell that is not a bomb revealed: a tag shared by every resolved chunk, saying whether every bomb is flagged as well.</li>
+ * <li>Otherwise: a 1 byte tag, then for its revealed cells and its flags, a {@code long} of which rows are not empty followed by those rows.</li>
+ * </ul>
+ * <p>The count of a cell is never stored. It is the number of bits set in the three rows around it, which is only a few instructions.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class SparseMinesweeperBoard {
+	/**
+	 * The number of rows and of columns of a chunk.
+	 */
+	public static final int SIZE = Long.SIZE;
+	
+	/**
+	 * The number of cells of a chunk.
+	 */
+	public static final int CELLS = SIZE * SIZE;
+	
+	/**
+	 * The most cells revealed by one call to {@link #reveal(int, int)}.<br>
+	 * A board with few bombs could otherwise be revealed forever.
+	 */
+	public static final int MAX_FILL = 1 << 20;
+	
+	/**
+	 * The most chunks kept whole at once.
+	 */
+	private static final int MAX_LOADED = 0x400;
+	
+	/**
+	 * The log base 2 of {@link #SIZE}.
+	 */
+	private static final int SHIFT = 6;
+	
+	/**
+	 * The tag of a chunk stored with its revealed cells and flags.
+	 */
+	private static final byte PLANES = 0;
+	
+	/**
+	 * The tag of a resolved chunk with no flags.
+	 */
+	private static final byte RESOLVED = 1;
+	
+	/**
+	 * The tag of a resolved chunk with every bomb flagged.
+	 */
+	private static final byte RESOLVED_FLAGGED = 2;
+	
+	/**
+	 * The seed every chunk is placed from.
+	 */
+	private final long seed;
+	
+	/**
+	 * The number of bombs placed in each chunk.
+	 */
+	private final int minesPerChunk;
+	
+	/**
+	 * What {@link #store} keeps of every resolved chunk with no flags.
+	 */
+	private static final byte[] RESOLVED_CHUNK = {RESOLVED};
+	
+	/**
+	 * What {@link #store} keeps of every resolved chunk with every bomb flagged.
+	 */
+	private static final byte[] RESOLVED_FLAGGED_CHUNK = {RESOLVED_FLAGGED};
+	
+	/**
+	 * The chunks kept whole by their key.
+	 */
+	private final Map<Long, Chunk> loaded = new HashMap<>(2 * MAX_LOADED);
+	
+	/**
+	 * The chunks that were played and then dropped by their key.
+	 */
+	private final Map<Long, byte[]> store = new HashMap<>();
+	
+	/**
+	 * The least recently used chunk of {@link #loaded}, the first to be dropped.
+	 */
+	private Chunk eldest;
+	
+	/**
+	 * The chunk looked at last, which is the most recently used of {@link #loaded}.
+	 */
+	private Chunk last;
+	
+	/**
+	 * The work queue of {@link #reveal(int, int)}, as keys of cells.
+	 */
+	private long[] queue = new long[0x100];
+	
+	/**
+	 * The number of revealed cells.
+	 */
+	private long numRevealed;
+	
+	/**
+	 * The number of flags.
+	 */
+	private long numFlags;
+	
+	/**
+	 * A boolean determining if a bomb was revealed.
+	 */
+	private boolean isGameOver;
+	
+	/**
+	 * The row of the bomb that ended the game.
+	 */
+	private int explodedRow;
+	
+	/**
+	 * The column of the bomb that ended the game.
+	 */
+	private int explodedCol;
+	
+	/**
+	 * <p>This {@code Chunk} class is {@value SparseMinesweeperBoard#SIZE} rows of a chunk, one bit per cell.</p>
+	 */
+	private static class Chunk {
+		/**
+		 * The key of the chunk.
+		 */
+		private final long key;
+		
+		/**
+		 * The bombs of every row.
+		 */
+		private final long[] mines = new long[SIZE];
+		
+		/**
+		 * The revealed cells of every row.
+		 */
+		private final long[] revealed = new long[SIZE];
+		
+		/**
+		 * The flags of every row.
+		 */
+		private final long[] flagged = new long[SIZE];
+		
+		/**
+		 * The chunk used just before this one, or {@code null} if this is {@link SparseMinesweeperBoard#eldest}.
+		 */
+		private Chunk older;
+		
+		/**
+		 * The chunk used just after this one, or {@code null} if this is {@link SparseMinesweeperBoard#last}.
+		 */
+		private Chunk newer;
+		
+		/**
+		 * Creates an empty {@code Chunk}.
+		 * 
+		 * @param key is the key of the chunk.
+		 */
+		private Chunk(long key) {
+			this.key = key;
+		}
+	}
+	
+	/**
+	 * Creates a {@code SparseMinesweeperBoard}.
+	 * 
+	 * @param seed			is the seed every chunk is placed from.
+	 * @param minesPerChunk	is the number of bombs placed in each chunk.
+	 * 
+	 * @throws IllegalArgumentException if {@code minesPerChunk} is negative or greater than {@value #CELLS}.
+	 */
+	public SparseMinesweeperBoard(long seed, int minesPerChunk) throws IllegalArgumentException {
+		if (minesPerChunk < 0 || minesPerChunk > CELLS) throw new IllegalArgumentException("Illegal number of bombs per chunk: " + minesPerChunk);
+		this.seed = seed;
+		this.minesPerChunk = minesPerChunk;
+	}
+	
+	/**
+	 * Determine the chunk holding row {@code cy} and column {@code cx} of chunks, placing it if it is not kept.
+	 * 
+	 * @param cx is the column of the chunk.
+	 * @param cy is the row of the chunk.
+	 * 
+	 * @return the {@link Chunk}, which must be used before another chunk is looked at, since that may drop it.
+	 */
+	private Chunk chunk(int cx, int cy) {
+		long key = key(cy, cx);
+		if (this.last != null && this.last.key == key) return this.last;
+		
+		Chunk chunk = this.loaded.get(key);
+		if (chunk == null) {
+			if (this.loaded.size() == MAX_LOADED) this.drop();
+			chunk = this.load(cx, cy, key);
+			this.loaded.put(key, chunk);
+		} else if (chunk == this.eldest) {
+			this.eldest = chunk.newer;
+			this.eldest.older = null;
+		} else {
+			chunk.older.newer = chunk.newer;
+			chunk.newer.older = chunk.older;
+		}
+		
+		chunk.older = this.last;
+		chunk.newer = null;
+		if (this.last != null)	this.last.newer = chunk;
+		else					this.eldest = chunk;
+		return this.last = chunk;
+	}
+	
+	/**
+	 * Drop {@link #eldest} from {@link #loaded}, keeping it in {@link #store} if it was played.
+	 */
+	private void drop() {
+		Chunk chunk = this.eldest;
+		this.loaded.remove(chunk.key);
+		this.eldest = chunk.newer;
+		if (this.eldest != null)	this.eldest.older = null;
+		else						this.last = null;
+		this.store(chunk);
+	}
+	
+	/**
+	 * Determine the number of bombs around the cell at ({@code row}, {@code col}), including itself.
+	 * 
+	 * @param row is the row of the cell.
+	 * @param col is the column of the cell.
+	 * 
+	 * @return the count.
+	 */
+	public int getCount(int row, int col) {
+		int cx = col >> SHIFT, c = col & (SIZE - 1), count = 0;
+		long mask = c == 0 ? 3L : 7L << (c - 1);
+		for (int i = row - 1; i <= row + 1; i++) {
+			int cy = i >> SHIFT, r = i & (SIZE - 1);
+			count += Long.bitCount(this.chunk(cx, cy).mines[r] & mask);
+			if (c == 0)				count += (int) (this.chunk(cx - 1, cy).mines[r] >>> (SIZE - 1));
+			else if (c == SIZE - 1)	count += (int) (this.chunk(cx + 1, cy).mines[r] & 1L);
+		} return count;
+	}
+	
+	/**
+	 * Determine the column of the bomb that ended the game.
+	 * 
+	 * @return {@link #explodedCol}
+	 */
+	public int getExplodedCol() {
+		return this.explodedCol;
+	}
+	
+	/**
+	 * Determine the row of the bomb that ended the game.
+	 * 
+	 * @return {@link #explodedRow}
+	 */
+	public int getExplodedRow() {
+		return this.explodedRow;
+	}
+	
+	/**
+	 * Determine the number of chunks kept whole.
+	 * 
+	 * @return the number of chunks, at most {@value #MAX_LOADED}.
+	 */
+	public int getLoaded() {
+		return this.loaded.size();
+	}
+	
+	/**
+	 * Determine the number of flags.
+	 * 
+	 * @return {@link #numFlags}
+	 */
+	public long getNumFlags() {
+		return this.numFlags;
+	}
+	
+	/**
+	 * Determine the number of revealed cells.
+	 * 
+	 * @return {@link #numRevealed}
+	 */
+	public long getNumRevealed() {
+		return this.numRevealed;
+	}
+	
+	/**
+	 * Determine the seed every chunk is placed from.
+	 * 
+	 * @return {@link #seed}
+	 */
+	public long getSeed() {
+		return this.seed;
+	}
+	
+	/**
+	 * Determine the number of chunks that were played and then dropped.
+	 * 
+	 * @return the size of {@link #store}.
+	 */
+	public int getStored() {
+		return this.store.size();
+	}
+	
+	/**
+	 * Determine if a bomb was revealed.
+	 * 
+	 * @return {@link #isGameOver}
+	 */
+	public boolean getGameOver() {
+		return this.isGameOver;
+	}
+	
+	/**
+	 * Flag or unflag the cell at ({@code row}, {@code col}).<br>
+	 * Nothing happens if the cell is revealed or the game is over.
+	 * 
+	 * @param row is the row of the cell.
+	 * @param col is the column of the cell.
+	 */
+	public void flag(int row, int col) {
+		if (this.isGameOver) return;
+		Chunk chunk = this.chunk(col >> SHIFT, row >> SHIFT);
+		int r = row & (SIZE - 1);
+		long bit = 1L << (col & (SIZE - 1));
+		if ((chunk.revealed[r] & bit) != 0) return;
+		
+		chunk.flagged[r] ^= bit;
+		this.numFlags += (chunk.flagged[r] & bit) != 0 ? 1 : -1;
+	}
+	
+	/**
+	 * Determine if the cell at ({@code row}, {@code col}) is flagged.
+	 * 
+	 * @param row is the row of the cell.
+	 * @param col is the column of the cell.
+	 * 
+	 * @return {@code true} if it is flagged.
+	 */
+	public boolean isFlagged(int row, int col) {
+		return (this.chunk(col >> SHIFT, row >> SHIFT).flagged[row & (SIZE - 1)] >>> col & 1L) != 0;
+	}
+	
+	/**
+	 * Determine if the cell at ({@code row}, {@code col}) is a bomb.
+	 * 
+	 * @param row is the row of the cell.
+	 * @param col is the column of the cell.
+	 * 
+	 * @return {@code true} if it is a bomb.
+	 */
+	public boolean isMine(int row, int col) {
+		return (this.chunk(col >> SHIFT, row >> SHIFT).mines[row & (SIZE - 1)] >>> col & 1L) != 0;
+	}
+	
+	/**
+	 * Determine if the cell at ({@code row}, {@code col}) is revealed.
+	 * 
+	 * @param row is the row of the cell.
+	 * @param col is the column of the cell.
+	 * 
+	 * @return {@code true} if it is revealed.
+	 */
+	public boolean isRevealed(int row, int col) {
+		return (this.chunk(col >> SHIFT, row >> SHIFT).revealed[row & (SIZE - 1)] >>> col & 1L) != 0;
+	}
+	
+	/**
+	 * Determine the key of the cell at ({@code row}, {@code col}), or of the chunk at row {@code row} and column {@code col} of chunks.
+	 * 
+	 * @param row is the row.
+	 * @param col is the column.
+	 * 
+	 * @return the key.
+	 */
+	private static long key(int row, int col) {
+		return (long) row << 32 | (col & 0xFFFFFFFFL);
+	}
+	
+	/**
+	 * Place the bombs of a chunk from a hash of {@link #seed} and its key, and restore it from {@link #store} if it was played.
+	 * 
+	 * @param cx	is the column of the chunk.
+	 * @param cy	is the row of the chunk.
+	 * @param key	is the key of the chunk.
+	 * 
+	 * @return the {@link Chunk}.
+	 */
+	private Chunk load(int cx, int cy, long key) {
+		Chunk chunk = new Chunk(key);
+		SplittableRandom rand = new SplittableRandom(this.seed + key * 0x9E3779B97F4A7C15L);
+		boolean isInverted = this.minesPerChunk > CELLS / 2;
+		
+		for (int placed = 0, n = isInverted ? CELLS - this.minesPerChunk : this.minesPerChunk; placed < n;) {
+			int cell = rand.nextInt(CELLS);
+			long bit = 1L << (cell & (SIZE - 1));
+			if ((chunk.mines[cell >> SHIFT] & bit) != 0) continue;
+			chunk.mines[cell >> SHIFT] |= bit;
+			placed++;
+		} if (isInverted) for (int r = 0; r < SIZE; r++) chunk.mines[r] = ~chunk.mines[r];
+		
+		for (int row = -1; row <= 1; row++) {
+			for (int col = -1; col <= 1; col++) {
+				if (row >> SHIFT == cy && col >> SHIFT == cx) chunk.mines[row & (SIZE - 1)] &= ~(1L << (col & (SIZE - 1)));
+			}
+		}
+		
+		byte[] stored = this.store.remove(key);
+		if (stored == null) return chunk;
+		switch (stored[0]) {
+		case RESOLVED:
+		case RESOLVED_FLAGGED:
+			for (int r = 0; r < SIZE; r++) {
+				chunk.revealed[r] = ~chunk.mines[r];
+				if (stored[0] == RESOLVED_FLAGGED) chunk.flagged[r] = chunk.mines[r];
+			} return chunk;
+		default:
+			ByteBuffer buffer = ByteBuffer.wrap(stored, 1, stored.length - 1);
+			read(buffer, chunk.revealed);
+			read(buffer, chunk.flagged);
+			return chunk;
+		}
+	}
+	
+	/**
+	 * Read the rows written by {@link #write(ByteBuffer, long[])} into {@code rows}.
+	 * 
+	 * @param buffer	is where to read from.
+	 * @param rows		is where to read into.
+	 */
+	private static void read(ByteBuffer buffer, long[] rows) {
+		for (long present = buffer.getLong(); present != 0; present &= present - 1) {
+			rows[Long.numberOfTrailingZeros(present)] = buffer.getLong();
+		}
+	}
+	
+	/**
+	 * Reveal the cell at ({@code row}, {@code col}), and if no bombs surround it, the empty region around it along with the numbered
+	 * cells bordering it, up to {@value #MAX_FILL} cells.<br>
+	 * If that many were revealed, revealing any empty cell on the edge of the region carries on from it.
+	 * Nothing happens if the cell is flagged, is a revealed number, or the game is over.
+	 * 
+	 * @param row is the row of the cell.
+	 * @param col is the column of the cell.
+	 * 
+	 * @return the number of cells revealed.
+	 */
+	public int reveal(int row, int col) {
+		if (this.isGameOver) return 0;
+		Chunk chunk = this.chunk(col >> SHIFT, row >> SHIFT);
+		int r = row & (SIZE - 1);
+		long bit = 1L << (col & (SIZE - 1));
+		if ((chunk.flagged[r] & bit) != 0) return 0;
+		
+		int n = 0;
+		if ((chunk.revealed[r] & bit) == 0) {
+			if ((chunk.mines[r] & bit) != 0) {
+				this.isGameOver = true;
+				this.explodedRow = row;
+				this.explodedCol = col;
+				return 0;
+			}
+			chunk.revealed[r] |= bit;
+			n++;
+		}
+		
+		int tail = 0;
+		this.queue[tail++] = key(row, col);
+		for (int head = 0; head < tail && n < MAX_FILL; head++) {
+			int nextRow = (int) (this.queue[head] >> 32), nextCol = (int) this.queue[head];
+			if (this.getCount(nextRow, nextCol) != 0) continue;
+			
+			for (int i = nextRow - 1; i <= nextRow + 1; i++) {
+				for (int j = nextCol - 1; j <= nextCol + 1; j++) {
+					Chunk neighbour = this.chunk(j >> SHIFT, i >> SHIFT);
+					int nr = i & (SIZE - 1);
+					long nbit = 1L << (j & (SIZE - 1));
+					if (((neighbour.revealed[nr] | neighbour.flagged[nr]) & nbit) != 0) continue;
+					neighbour.revealed[nr] |= nbit;
+					n++;
+					
+					if (tail == this.queue.length) {
+						long[] grown = new long[2 * tail];
+						System.arraycopy(this.queue, 0, grown, 0, tail);
+						this.queue = grown;
+					} this.queue[tail++] = key(i, j);
+				}
+			}
+		}
+		
+		this.numRevealed += n;
+		return n;
+	}
+	
+	/**
+	 * Keep {@code chunk} in {@link #store} as compactly as it can be, if it was played.
+	 * 
+	 * @param chunk is the {@link Chunk} being dropped.
+	 */
+	private void store(Chunk chunk) {
+		boolean isResolved = true, isFlagged = true, isUnflagged = true, isTouched = false;
+		int rows = 0;
+		for (int r = 0; r < SIZE; r++) {
+			isResolved &= chunk.revealed[r] == ~chunk.mines[r];
+			isFlagged &= chunk.flagged[r] == chunk.mines[r];
+			isUnflagged &= chunk.flagged[r] == 0;
+			isTouched |= (chunk.revealed[r] | chunk.flagged[r]) != 0;
+			rows += (chunk.revealed[r] != 0 ? 1 : 0) + (chunk.flagged[r] != 0 ? 1 : 0);
+		}
+		
+		if (!isTouched)						return;
+		if (isResolved && isUnflagged)		this.store.put(chunk.key, RESOLVED_CHUNK);
+		else if (isResolved && isFlagged)	this.store.put(chunk.key, RESOLVED_FLAGGED_CHUNK);
+		else {
+			ByteBuffer buffer = ByteBuffer.allocate(1 + 2 * Long.BYTES + rows * Long.BYTES);
+			buffer.put(PLANES);
+			write(buffer, chunk.revealed);
+			write(buffer, chunk.flagged);
+			this.store.put(chunk.key, buffer.array());
+		}
+	}
+	
+	/**
+	 * Write which of {@code rows} are not empty as the bits of a {@code long}, followed by those rows.
+	 * 
+	 * @param buffer	is where to write to.
+	 * @param rows		are the rows.
+	 */
+	private static void write(ByteBuffer buffer, long[] rows) {
+		long present = 0;
+		for (int r = 0; r < SIZE; r++) if (rows[r] != 0) present |= 1L << r;
+		buffer.putLong(present);
+		for (int r = 0; r < SIZE; r++) if (rows[r] != 0) buffer.putLong(rows[r]);
+	}
+}
\ No newline at end of file
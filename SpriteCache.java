@@ -0,0 +1,141 @@
+import java.awt.GraphicsEnvironment;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+
+/**
+ * <p>This {@code SpriteCache} class holds every image of {@link Minesweeper}.</p>
+ * <p>Each image is read from the classpath once. The first time a size is asked for, every image is scaled to it into a
+ * {@link BufferedImage} compatible with the screen, so painting never has to scale.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+public class SpriteCache {
+	/**
+	 * The sprite of a count is the count itself, from 1 to 8.
+	 */
+	public static final int ONE = 1;
+	
+	/**
+	 * The sprite for the bomb.
+	 */
+	public static final int BOMB = 9;
+	
+	/**
+	 * The sprite for an incorrectly flagged cell.
+	 */
+	public static final int INCORRECT_FLAG = 10;
+	
+	/**
+	 * The sprite for the flag.
+	 */
+	public static final int FLAG = 11;
+	
+	/**
+	 * The default sprite of {@link MinesweeperPanel.MenuButton}.
+	 */
+	public static final int MENU_DEFAULT = 12;
+	
+	/**
+	 * The sprite of {@link MinesweeperPanel.MenuButton} when {@code Mouse} is pressed.
+	 */
+	public static final int MENU_CLICK = 13;
+	
+	/**
+	 * The sprite of {@link MinesweeperPanel.MenuButton} when the game is over.
+	 */
+	public static final int MENU_GAME_OVER = 14;
+	
+	/**
+	 * The file of every sprite.
+	 */
+	private static final String[] names = {null, "one.png", "two.png", "three.png", "four.png", "five.png", "six.png", "seven.png", "eight.png",
+			"bomb.png", "incorrectFlag.png", "flag.png", "menuDefault.png", "menuClick.png", "menuGameOver.png"};
+	
+	/**
+	 * Every sprite as it was read.
+	 */
+	private static final BufferedImage[] originals = new BufferedImage[names.length];
+	
+	/**
+	 * Every sprite scaled to a size, by size.
+	 */
+	private static final ConcurrentHashMap<Integer, BufferedImage[]> cache = new ConcurrentHashMap<>();
+	
+	static {
+		try {
+			for (int i = 1; i < names.length; i++) {
+				URL url = SpriteCache.class.getResource(names[i]);
+				if (url == null) throw new IOException("Missing sprite: " + names[i]);
+				originals[i] = ImageIO.read(url);
+			}
+		} catch (IOException ioe) {
+			ioe.printStackTrace();
+			System.exit(0);
+		}
+	}
+	
+	/**
+	 * {@code SpriteCache} only has static members.
+	 */
+	private SpriteCache() {}
+	
+	/**
+	 * Create an empty {@link BufferedImage} that is as fast as possible to draw on the screen.
+	 * 
+	 * @param size is the width and height.
+	 * 
+	 * @return a translucent {@code BufferedImage}.
+	 */
+	private static BufferedImage createImage(int size) {
+		if (GraphicsEnvironment.isHeadless()) return new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+		return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration().createCompatibleImage(size, size, Transparency.TRANSLUCENT);
+	}
+	
+	/**
+	 * Returns {@code sprite} scaled to {@code size} by {@code size} pixels.
+	 * 
+	 * @param sprite	is one of the sprites of this class, or a count from 1 to 8.
+	 * @param size		is the width and height in pixels.
+	 * 
+	 * @return the scaled sprite. It is shared and must not be drawn on.
+	 * 
+	 * @throws IllegalArgumentException if {@code size} is less than 1.
+	 */
+	public static BufferedImage get(int sprite, int size) throws IllegalArgumentException {
+		if (size < 1) throw new IllegalArgumentException("Illegal sprite size: " + size);
+		return cache.computeIfAbsent(size, SpriteCache::render)[sprite];
+	}
+	
+	/**
+	 * Scale every sprite to {@code size}.<br>
+	 * Shrinking is done by halves, which keeps the result as smooth as {@link java.awt.Image#SCALE_SMOOTH}. Every sprite is square.
+	 * 
+	 * @param size is the width and height in pixels.
+	 * 
+	 * @return every sprite at {@code size}.
+	 */
+	private static BufferedImage[] render(int size) {
+		BufferedImage[] sprites = new BufferedImage[names.length];
+		for (int i = 1; i < names.length; i++) {
+			BufferedImage image = originals[i];
+			while (image.getWidth() != size) {
+				int next = image.getWidth() / 2 >= size ? image.getWidth() / 2 : size;
+				BufferedImage scaled = createImage(next);
+				Graphics2D g = scaled.createGraphics();
+				g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+				g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+				g.drawImage(image, 0, 0, next, next, null);
+				g.dispose();
+				image = scaled;
+			} sprites[i] = image;
+		} return sprites;
+	}
+}
\ No newline at end of file
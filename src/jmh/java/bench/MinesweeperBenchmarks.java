@@ -0,0 +1,329 @@
+package bench;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>This {@code MinesweeperBenchmarks} class is the JMH benchmarks of {@code Minesweeper}, one per operation.</p>
+ * <p>Each benchmark runs a fixture of {@code MinesweeperBenchmark}, found by name since that class is in the default package.
+ * Whatever an operation needs first, such as placing the bombs, is done by a {@link Setup} method, so only the operation is measured.
+ * Run them with {@code mvn -B test-compile exec:exec}, which passes {@code -prof gc} to report allocation.</p>
+ * 
+ * @version 17 October 2026
+ * @author MrPineapple065
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MinesweeperBenchmarks {
+	/**
+	 * <p>This {@code Fixture} class holds a fixture of {@code MinesweeperBenchmark} and the operation it set up.</p>
+	 */
+	public abstract static class Fixture {
+		/**
+		 * The fixture, which sets up an operation each time it is called.
+		 */
+		protected Supplier<LongSupplier> fixture;
+		
+		/**
+		 * The operation measured.
+		 */
+		protected LongSupplier op;
+		
+		/**
+		 * Create the fixture named {@code name} of {@code MinesweeperBenchmark} from {@code args}.
+		 * 
+		 * @param name	is the name of the fixture.
+		 * @param args	are its arguments.
+		 * 
+		 * @throws ReflectiveOperationException if there is no such fixture or it fails.
+		 */
+		@SuppressWarnings("unchecked")
+		protected void create(String name, Object... args) throws ReflectiveOperationException {
+			for (Method method : Class.forName("MinesweeperBenchmark").getMethods()) {
+				if (!method.getName().equals(name)) continue;
+				this.fixture = (Supplier<LongSupplier>) method.invoke(null, args);
+				this.op = this.fixture.get();
+				return;
+			} throw new NoSuchMethodException("MinesweeperBenchmark." + name);
+		}
+	}
+	
+	/**
+	 * <p>This {@code Place} class clears the board before every placement.</p>
+	 */
+	@State(Scope.Thread)
+	public static class Place extends Fixture {
+		/**
+		 * The size of the board.
+		 */
+		@Param({"9x9", "16x30", "256x256", "1024x1024", "4096x4096"})
+		public String size;
+		
+		/**
+		 * The fraction of cells that are bombs.
+		 */
+		@Param({"0.10", "0.21", "0.50"})
+		public double density;
+		
+		/**
+		 * Create the fixture.
+		 * 
+		 * @throws ReflectiveOperationException if it fails.
+		 */
+		@Setup(Level.Trial)
+		public void create() throws ReflectiveOperationException {
+			int[] size = size(this.size);
+			this.create("place", size[0], size[1], this.density);
+		}
+		
+		/**
+		 * Clear the board.
+		 */
+		@Setup(Level.Invocation)
+		public void clear() {
+			this.op = this.fixture.get();
+		}
+	}
+	
+	/**
+	 * <p>This {@code Count} class places the bombs once.</p>
+	 */
+	@State(Scope.Thread)
+	public static class Count extends Fixture {
+		/**
+		 * The size of the board.
+		 */
+		@Param({"9x9", "16x30", "256x256", "1024x1024", "4096x4096"})
+		public String size;
+		
+		/**
+		 * Create the fixture, which places the bombs.
+		 * 
+		 * @throws ReflectiveOperationException if it fails.
+		 */
+		@Setup(Level.Trial)
+		public void create() throws ReflectiveOperationException {
+			int[] size = size(this.size);
+			this.create("count", size[0], size[1]);
+		}
+	}
+	
+	/**
+	 * <p>This {@code FloodFill} class clears the board and places its one bomb before every fill.</p>
+	 */
+	@State(Scope.Thread)
+	public static class FloodFill extends Fixture {
+		/**
+		 * The size of the board.
+		 */
+		@Param({"256x256", "1024x1024", "4096x4096"})
+		public String size;
+		
+		/**
+		 * Create the fixture.
+		 * 
+		 * @throws ReflectiveOperationException if it fails.
+		 */
+		@Setup(Level.Trial)
+		public void create() throws ReflectiveOperationException {
+			int[] size = size(this.size);
+			this.create("floodFill", size[0], size[1]);
+		}
+		
+		/**
+		 * Clear the board and place the bomb.
+		 */
+		@Setup(Level.Invocation)
+		public void place() {
+			this.op = this.fixture.get();
+		}
+	}
+	
+	/**
+	 * <p>This {@code Solve} class starts a new game and reveals its first cell before every solve.</p>
+	 */
+	@State(Scope.Thread)
+	public static class Solve extends Fixture {
+		/**
+		 * The preset, as rows, columns then bombs.
+		 */
+		@Param({"9x9x10", "16x16x40", "16x30x99"})
+		public String preset;
+		
+		/**
+		 * Create the fixture.
+		 * 
+		 * @throws ReflectiveOperationException if it fails.
+		 */
+		@Setup(Level.Trial)
+		public void create() throws ReflectiveOperationException {
+			int[] preset = size(this.preset);
+			this.create("solve", preset[0], preset[1], preset[2]);
+		}
+		
+		/**
+		 * Start a new game.
+		 */
+		@Setup(Level.Invocation)
+		public void reset() {
+			this.op = this.fixture.get();
+		}
+	}
+	
+	/**
+	 * <p>This {@code Replay} class records a journal of games played by the solver once.</p>
+	 */
+	@State(Scope.Thread)
+	public static class Replay extends Fixture {
+		/**
+		 * The preset, as rows, columns then bombs.
+		 */
+		@Param({"9x9x10", "16x16x40", "16x30x99"})
+		public String preset;
+		
+		/**
+		 * The number of games recorded.
+		 */
+		@Param({"100"})
+		public int games;
+		
+		/**
+		 * Create the fixture, which records the journal.
+		 * 
+		 * @throws ReflectiveOperationException if it fails.
+		 */
+		@Setup(Level.Trial)
+		public void create() throws ReflectiveOperationException {
+			int[] preset = size(this.preset);
+			this.create("replay", preset[0], preset[1], preset[2], this.games);
+		}
+	}
+	
+	/**
+	 * <p>This {@code Paint} class plays the moves through the engine of a panel once.</p>
+	 */
+	@State(Scope.Thread)
+	public static class Paint extends Fixture {
+		/**
+		 * The size of the board.
+		 */
+		@Param({"9x9", "16x30", "256x256", "1024x1024", "4096x4096"})
+		public String size;
+		
+		/**
+		 * Create the fixture, which plays the moves.
+		 * 
+		 * @throws ReflectiveOperationException if it fails.
+		 */
+		@Setup(Level.Trial)
+		public void create() throws ReflectiveOperationException {
+			int[] size = size(this.size);
+			this.create("paint", size[0], size[1]);
+		}
+	}
+	
+	/**
+	 * Determine the numbers of {@code size}, separated by {@code x}.
+	 * 
+	 * @param size is the size, such as {@code 16x30}.
+	 * 
+	 * @return the numbers.
+	 */
+	private static int[] size(String size) {
+		String[] parts = size.split("x");
+		int[] numbers = new int[parts.length];
+		for (int i = 0; i < parts.length; i++) numbers[i] = Integer.parseInt(parts[i]);
+		return numbers;
+	}
+	
+	/**
+	 * Place bombs.
+	 * 
+	 * @param state is the {@link Place}.
+	 * 
+	 * @return the number of bombs.
+	 */
+	@Benchmark
+	public long place(Place state) {
+		return state.op.getAsLong();
+	}
+	
+	/**
+	 * Count the bombs around every cell.
+	 * 
+	 * @param state is the {@link Count}.
+	 * 
+	 * @return the count of the first cell.
+	 */
+	@Benchmark
+	public long count(Count state) {
+		return state.op.getAsLong();
+	}
+	
+	/**
+	 * Reveal the empty region around the center.
+	 * 
+	 * @param state is the {@link FloodFill}.
+	 * 
+	 * @return the number of cells revealed.
+	 */
+	@Benchmark
+	public long floodFill(FloodFill state) {
+		return state.op.getAsLong();
+	}
+	
+	/**
+	 * Make every move that can be deduced.
+	 * 
+	 * @param state is the {@link Solve}.
+	 * 
+	 * @return the number of cells revealed.
+	 */
+	@Benchmark
+	public long solve(Solve state) {
+		return state.op.getAsLong();
+	}
+	
+	/**
+	 * Replay the journal.
+	 * 
+	 * @param state is the {@link Replay}.
+	 * 
+	 * @return the number of cells revealed at the end.
+	 */
+	@Benchmark
+	public long replay(Replay state) {
+		return state.op.getAsLong();
+	}
+	
+	/**
+	 * Paint the middle of the board.
+	 * 
+	 * @param state is the {@link Paint}.
+	 * 
+	 * @return the first pixel.
+	 */
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+	public long paint(Paint state) {
+		return state.op.getAsLong();
+	}
+}